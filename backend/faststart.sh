@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Fast start for instances added under load: AOT-processed bean definitions, an AppCDS
+# (class-data sharing) archive and the faststart profile.
+#
+#   ./faststart.sh build        jar with AOT bean definitions, extracted so its classes can
+#                               be archived, plus the archive from a training run (the
+#                               training run refreshes the context, so it needs the database)
+#   ./faststart.sh run [args]   starts an instance from the build output; args go to Spring
+#
+# Rebuild after every code or dependency change: the JVM ignores an archive that does not
+# match the classpath (startup is then just slower), but AOT bean definitions would be stale.
+set -euo pipefail
+cd "$(dirname "$0")"
+
+OUT=target/faststart
+JAR=backend-0.0.1-SNAPSHOT.jar
+
+case "${1:-}" in
+  build)
+    ./mvnw -B -q -Pfaststart -DskipTests package
+    rm -rf "$OUT"
+    java -Djarmode=tools -jar "target/$JAR" extract --destination "$OUT"
+    # Eager, so the archive covers the classes lazily created beans load later
+    java -XX:ArchiveClassesAtExit="$OUT/application.jsa" -Dspring.aot.enabled=true \
+         -Dspring.context.exit=onRefresh -jar "$OUT/$JAR" \
+         --spring.profiles.active=faststart --spring.main.lazy-initialization=false
+    ;;
+  run)
+    shift
+    exec java -XX:SharedArchiveFile="$OUT/application.jsa" -Dspring.aot.enabled=true \
+         -jar "$OUT/$JAR" --spring.profiles.active=faststart "$@"
+    ;;
+  *)
+    echo "usage: $0 build | run [args]" >&2
+    exit 1
+    ;;
+esac
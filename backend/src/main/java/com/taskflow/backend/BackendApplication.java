@@ -1,21 +1,44 @@
 package com.taskflow.backend;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-@SpringBootApplication
+import com.taskflow.backend.security.BoundedPasswordEncoder;
+import com.taskflow.backend.security.PasswordHashingProperties;
+import com.taskflow.backend.security.TimedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// The R2DBC pool of the v2 read API is its own (TaskStreamRepository): an auto-configured
+// ConnectionFactory bean would turn off the JDBC DataSource everything else uses
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@PropertySource("classpath:taskflow.properties")
 public class BackendApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(BackendApplication.class, args);
 	}
 
+	// Hashes on its own bounded pool; plain and on the caller's thread when there is no
+	// registry (test slices without metrics auto-configuration)
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(ObjectProvider<PasswordHashingProperties> hashingProperties,
+										   ObjectProvider<MeterRegistry> meterRegistry) {
+		PasswordHashingProperties properties = hashingProperties.getIfAvailable(PasswordHashingProperties::new);
+		PasswordEncoder encoder = new BCryptPasswordEncoder(properties.getStrength());
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry == null) {
+			return encoder;
+		}
+		int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+		return new BoundedPasswordEncoder(new TimedPasswordEncoder(encoder, registry), threads,
+				properties.getQueueCapacity(), registry);
 	}
 
 }
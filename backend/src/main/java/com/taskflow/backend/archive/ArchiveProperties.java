@@ -0,0 +1,22 @@
+package com.taskflow.backend.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = true;
+    // Completed tasks unchanged for this many days are moved to tasks_archive
+    private int completedDays = 30;
+    // Top-level tasks (with their subtasks) moved per transaction
+    private int batchSize = 200;
+    // Batches per run; the rest waits for the next run
+    private int maxBatches = 50;
+    // Pause between runs (ms)
+    private long interval = 300_000;
+}
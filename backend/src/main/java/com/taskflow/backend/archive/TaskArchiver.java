@@ -0,0 +1,211 @@
+package com.taskflow.backend.archive;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.event.TaskChangedEvent;
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.security.UserPrincipal;
+import com.taskflow.backend.service.TaskHierarchyService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Moves completed tasks from tasks to tasks_archive, so the hot table and its indexes only
+// hold work that is still being read.
+//
+// A top-level task is archived together with its subtasks once every task in the tree is
+// completed and unchanged for app.archive.completed-days; recurring tasks are never archived.
+// Each batch is one short transaction: the roots are claimed with FOR UPDATE SKIP LOCKED (so
+// several nodes can run the mover and none waits on tasks a user is editing), their subtasks
+// are locked and re-checked, then copied and deleted in a handful of set-based statements.
+//
+// Restoring moves an archived task, with its archived subtasks, back into tasks. It goes
+// under its old parent if that is still live and becomes a top-level task otherwise.
+@Component
+public class TaskArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiver.class);
+
+    // Oldest completed changes first (idx_tasks_completed_updated)
+    private static final String CLAIM_ROOTS_SQL =
+            "SELECT t.id FROM tasks t " +
+            "WHERE t.completed = true AND t.updated_at < ? AND t.parent_id IS NULL AND t.recurrence IS NULL " +
+            "AND t.user_id IS NOT NULL AND NOT EXISTS (" +
+            "SELECT 1 FROM task_closure c JOIN tasks d ON d.id = c.descendant_id WHERE c.ancestor_id = t.id " +
+            "AND c.depth > 0 AND (d.completed = false OR d.updated_at >= ? OR d.recurrence IS NOT NULL)) " +
+            "ORDER BY t.updated_at LIMIT ? FOR UPDATE OF t SKIP LOCKED";
+    // Locks the claimed trees; a subtask changed since the claim query read it disqualifies its tree
+    private static final String LOCK_TREES_SQL =
+            "SELECT c.ancestor_id, t.id, t.user_id, " +
+            "(t.completed AND t.updated_at < ? AND t.recurrence IS NULL) AS eligible " +
+            "FROM task_closure c JOIN tasks t ON t.id = c.descendant_id WHERE c.ancestor_id = any(?) " +
+            "ORDER BY t.id FOR UPDATE OF t";
+    private static final String ARCHIVE_SQL =
+            "INSERT INTO tasks_archive (id, title, description, due_date, priority, completed, status, type, " +
+            "story_points, parent_id, created_at, updated_at, user_id, category_id, assignee_id, labels, " +
+            "dependencies, archived_at) " +
+            "SELECT t.id, t.title, t.description, t.due_date, t.priority, t.completed, t.status, t.type, " +
+            "t.story_points, t.parent_id, t.created_at, t.updated_at, t.user_id, t.category_id, t.assignee_id, " +
+            "t.labels, t.dependencies, ? " +
+            "FROM tasks t WHERE t.id = any(?)";
+    // task_closure rows go with the tasks (on delete cascade)
+    private static final String DELETE_TASKS_SQL = "DELETE FROM tasks WHERE id = any(?)";
+
+    private static final String LOCK_ARCHIVED_ROOT_SQL =
+            "SELECT parent_id FROM tasks_archive WHERE id = ? AND user_id = ? FOR UPDATE";
+    private static final String ARCHIVED_TREE_SQL =
+            "WITH RECURSIVE tree AS (" +
+            "SELECT id, parent_id, 0 AS depth FROM tasks_archive WHERE id = ? " +
+            "UNION ALL SELECT a.id, a.parent_id, tree.depth + 1 FROM tasks_archive a JOIN tree ON a.parent_id = tree.id) " +
+            "SELECT id, parent_id FROM tree ORDER BY depth, id";
+    private static final String LOCK_ARCHIVED_SQL = "SELECT id FROM tasks_archive WHERE id = any(?) FOR UPDATE";
+    private static final String RESTORE_SQL =
+            "INSERT INTO tasks (id, title, description, due_date, priority, completed, status, type, story_points, " +
+            "parent_id, created_at, updated_at, user_id, category_id, assignee_id, labels, dependencies) " +
+            "SELECT id, title, description, due_date, priority, completed, status, type, story_points, " +
+            "CASE WHEN id = ? THEN ? ELSE parent_id END, created_at, ?, user_id, category_id, assignee_id, " +
+            "labels, dependencies FROM tasks_archive WHERE id = any(?)";
+    private static final String DELETE_ARCHIVED_SQL = "DELETE FROM tasks_archive WHERE id = any(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskRepository taskRepository;
+    private final TaskHierarchyService taskHierarchyService;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchiveProperties properties;
+    private final Counter archived;
+
+    public TaskArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                        TaskRepository taskRepository, TaskHierarchyService taskHierarchyService,
+                        TaskMapper taskMapper, ApplicationEventPublisher eventPublisher,
+                        ArchiveProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskRepository = taskRepository;
+        this.taskHierarchyService = taskHierarchyService;
+        this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.archived = Counter.builder("taskflow.archive.moved")
+                .description("Tasks moved to the archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:300000}", initialDelayString = "${app.archive.interval:300000}")
+    public void archiveCompleted() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getCompletedDays());
+        int moved = 0;
+        for (int batch = 0; batch < properties.getMaxBatches(); batch++) {
+            int[] result = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            moved += result[1];
+            if (result[0] < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (moved > 0) {
+            logger.info("Archived {} completed tasks", moved);
+        }
+    }
+
+    // Returns {roots claimed, tasks archived}
+    private int[] archiveBatch(LocalDateTime cutoff) {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        List<Long> roots = jdbcTemplate.queryForList(CLAIM_ROOTS_SQL, Long.class, before, before, properties.getBatchSize());
+        if (roots.isEmpty()) {
+            return new int[] {0, 0};
+        }
+        Map<Long, List<Long>> trees = new LinkedHashMap<>();
+        Map<Long, Long> owners = new HashMap<>();
+        Set<Long> disqualified = new HashSet<>();
+        jdbcTemplate.query(LOCK_TREES_SQL, resultSet -> {
+            long root = resultSet.getLong(1);
+            long id = resultSet.getLong(2);
+            trees.computeIfAbsent(root, key -> new ArrayList<>()).add(id);
+            owners.put(id, resultSet.getLong(3));
+            if (!resultSet.getBoolean(4)) {
+                disqualified.add(root);
+            }
+        }, before, roots.toArray(Long[]::new));
+        Long[] ids = trees.entrySet().stream()
+                .filter(tree -> !disqualified.contains(tree.getKey()))
+                .flatMap(tree -> tree.getValue().stream())
+                .toArray(Long[]::new);
+        if (ids.length == 0) {
+            return new int[] {roots.size(), 0};
+        }
+
+        taskHierarchyService.evictPathsAfterCommit(List.of(ids));
+        jdbcTemplate.update(ARCHIVE_SQL, Timestamp.valueOf(LocalDateTime.now()), ids);
+        jdbcTemplate.update(DELETE_TASKS_SQL, (Object) ids);
+        for (Long id : ids) {
+            eventPublisher.publishEvent(new TaskChangedEvent(id, owners.get(id), null, true, true));
+        }
+        archived.increment(ids.length);
+        return new int[] {roots.size(), ids.length};
+    }
+
+    // Moves an archived task of the current user, with its archived subtasks, back to tasks
+    @Transactional
+    public TaskResponseDTO restore(Long id) {
+        Long userId = UserPrincipal.currentId();
+        List<Long> parents = jdbcTemplate.queryForList(LOCK_ARCHIVED_ROOT_SQL, Long.class, id, userId);
+        if (parents.isEmpty()) {
+            throw new ResourceNotFoundException("Archived task not found with id: " + id);
+        }
+        Long parentId = parents.get(0);
+        if (parentId != null && taskRepository.findByIdAndUserId(parentId, userId).isEmpty()) {
+            parentId = null;
+        }
+
+        Map<Long, Long> tree = new LinkedHashMap<>();
+        jdbcTemplate.query(ARCHIVED_TREE_SQL, resultSet -> {
+            tree.put(resultSet.getLong(1), resultSet.getObject(2, Long.class));
+        }, id);
+        // Subtasks restored concurrently on their own are gone once their locks are released
+        Set<Long> locked = new HashSet<>(jdbcTemplate.queryForList(LOCK_ARCHIVED_SQL, Long.class,
+                (Object) tree.keySet().toArray(Long[]::new)));
+        tree.keySet().retainAll(locked);
+        Long[] ids = tree.keySet().toArray(Long[]::new);
+
+        jdbcTemplate.update(RESTORE_SQL, id, parentId, Timestamp.valueOf(LocalDateTime.now()), ids);
+        jdbcTemplate.update(DELETE_ARCHIVED_SQL, (Object) ids);
+        // Parents before their subtasks (tree is in depth order)
+        for (Map.Entry<Long, Long> task : tree.entrySet()) {
+            taskHierarchyService.attach(userId, task.getKey(), task.getKey().equals(id) ? parentId : task.getValue());
+        }
+
+        List<Task> restored = taskRepository.findAllById(tree.keySet());
+        restored.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.saved(task)));
+        return restored.stream()
+                .filter(task -> task.getId().equals(id))
+                .findFirst()
+                .map(taskMapper::toResponse)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,326 @@
+package com.taskflow.backend.batch;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.dto.BatchOperation;
+import com.taskflow.backend.dto.BatchRequest;
+import com.taskflow.backend.dto.BatchResult;
+import com.taskflow.backend.exception.ValidationException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Runs the operations of POST /api/v1/batch as if each had been sent on its own: through
+// the servlet filters (BatchFilters) into the DispatcherServlet, so each one is authorized,
+// rate limited, counted and measured like any other request. The batch request is
+// authenticated once: every operation carries its Authentication, where the (stateless)
+// security chain loads it from, so no token is verified and no user looked up again.
+// Consecutive reads run in parallel, a write waits for everything before it and holds back
+// everything after it; in a transactional batch everything runs in order in one transaction.
+@Component
+public class BatchExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchExecutor.class);
+
+    private static final String API_PREFIX = "/api/v1/";
+    private static final Set<String> METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE");
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD");
+    // Characters and segments a servlet container would normalize or reject before routing
+    private static final List<String> UNSAFE_PATH_PARTS = List.of("/.", "//", "\\", "%2e", "%2f", "%5c", "#", ";");
+    // Where the security chain of a stateless application looks for an existing context
+    private static final SecurityContextRepository CONTEXTS = new RequestAttributeSecurityContextRepository();
+
+    private final DispatcherServlet dispatcherServlet;
+    private final BatchFilters filters;
+    private final ObjectMapper objectMapper;
+    private final BatchProperties properties;
+    private final TransactionOperations transaction;
+    private final ExecutorService reads;
+    private final DistributionSummary batchSizes;
+
+    public BatchExecutor(DispatcherServlet dispatcherServlet, BatchFilters filters, ObjectMapper objectMapper,
+                         BatchProperties properties, PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.dispatcherServlet = dispatcherServlet;
+        this.filters = filters;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        // A read runs on the request thread when no reader is free, so a busy pool slows
+        // batches down instead of queueing them
+        AtomicInteger threads = new AtomicInteger();
+        this.reads = new ThreadPoolExecutor(properties.getReadThreads(), properties.getReadThreads(),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "batch-read-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.batchSizes = DistributionSummary.builder("taskflow.batch.operations")
+                .description("Operations per batch request")
+                .register(meterRegistry);
+    }
+
+    // One result per operation, in the order given
+    public List<BatchResult> execute(BatchRequest batch, HttpServletRequest request, HttpServletResponse response) {
+        List<Operation> operations = prepare(batch, request, response);
+        batchSizes.record(operations.size());
+        if (batch.isTransactional()) {
+            return transaction.execute(status -> runInTransaction(operations, status));
+        }
+
+        BatchResult[] results = new BatchResult[operations.size()];
+        int next = 0;
+        while (next < operations.size()) {
+            int end = next + 1;
+            if (operations.get(next).read()) {
+                while (end < operations.size() && operations.get(end).read()) {
+                    end++;
+                }
+                runInParallel(operations.subList(next, end), results, next);
+            } else {
+                results[next] = dispatch(operations.get(next));
+            }
+            next = end;
+        }
+        return List.of(results);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reads.shutdown();
+    }
+
+    // Stops at the first failure; the operations after it are not run
+    private List<BatchResult> runInTransaction(List<Operation> operations, TransactionStatus status) {
+        List<BatchResult> results = new ArrayList<>();
+        for (Operation operation : operations) {
+            if (status.isRollbackOnly()) {
+                results.add(error(operation.id(), HttpStatus.FAILED_DEPENDENCY,
+                        "Not run: an earlier request of the transaction failed"));
+                continue;
+            }
+            BatchResult result = dispatch(operation);
+            results.add(result);
+            // Also when a route failed and handled it without an error status: the transaction
+            // is then marked rollback-only and could not commit anyway
+            if (result.status() >= 400 || status.isRollbackOnly()) {
+                status.setRollbackOnly();
+            }
+        }
+        return results;
+    }
+
+    // The first read runs on the request thread, the others on the read pool
+    private void runInParallel(List<Operation> operations, BatchResult[] results, int offset) {
+        List<Future<BatchResult>> pending = new ArrayList<>();
+        for (Operation operation : operations.subList(1, operations.size())) {
+            pending.add(reads.submit(() -> dispatch(operation)));
+        }
+        results[offset] = dispatch(operations.get(0));
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                results[offset + 1 + i] = pending.get(i).get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for batch reads", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Batch read failed", ex.getCause());
+            }
+        }
+    }
+
+    // The filters set up and clear the thread's security and request context for the
+    // operation; the batch request's own, on the request thread, are put back afterwards
+    private BatchResult dispatch(Operation operation) {
+        BatchSubRequest request = operation.request();
+        BatchSubResponse response = operation.response();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        try {
+            new OperationChain(filters.getFilters(), dispatcherServlet).doFilter(request, response);
+        } catch (Exception ex) {
+            logger.warn("Batch operation {} {} failed", request.getMethod(), request.getRequestURI(), ex);
+            return error(operation.id(), HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+        } finally {
+            SecurityContextHolder.setContext(securityContext);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            LocaleContextHolder.setLocaleContext(localeContext);
+        }
+        return new BatchResult(operation.id(), response.getStatus(), body(response));
+    }
+
+    private JsonNode body(BatchSubResponse response) {
+        byte[] content = response.getContent();
+        if (content.length == 0) {
+            return null;
+        }
+        if (isJson(response.getContentType())) {
+            try {
+                return objectMapper.readTree(content);
+            } catch (IOException ex) {
+                // Not the JSON it claimed to be; returned as text below
+            }
+        }
+        return TextNode.valueOf(new String(content, Charset.forName(response.getCharacterEncoding())));
+    }
+
+    private BatchResult error(String id, HttpStatus status, String message) {
+        return new BatchResult(id, status.value(), objectMapper.valueToTree(ApiResponse.error(message)));
+    }
+
+    // Everything is checked before anything runs
+    private List<Operation> prepare(BatchRequest batchRequest, HttpServletRequest request,
+                                    HttpServletResponse response) {
+        List<BatchOperation> batch = batchRequest.getRequests();
+        if (batch == null || batch.isEmpty() || batch.size() > properties.getMaxRequests()) {
+            throw new ValidationException("requests must hold between 1 and " + properties.getMaxRequests()
+                    + " operations");
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        List<Operation> operations = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            BatchOperation operation = batch.get(i);
+            String id = operation.getId() != null ? operation.getId() : Integer.toString(i);
+            String method = operation.getMethod() != null ? operation.getMethod().toUpperCase(Locale.ROOT) : "GET";
+            if (!METHODS.contains(method)) {
+                throw new ValidationException("Operation " + id + ": unsupported method " + operation.getMethod());
+            }
+            checkPath(id, operation.getPath());
+            Map<String, String> headers = operation.getHeaders() != null ? operation.getHeaders() : Map.of();
+            if (headers.keySet().stream().anyMatch(HttpHeaders.AUTHORIZATION::equalsIgnoreCase)) {
+                throw new ValidationException("Operation " + id
+                        + ": operations use the batch request's Authorization");
+            }
+            // A stored response would outlive a rolled-back transaction
+            if (batchRequest.isTransactional()
+                    && headers.keySet().stream().anyMatch("Idempotency-Key"::equalsIgnoreCase)) {
+                throw new ValidationException("Operation " + id
+                        + ": Idempotency-Key is not supported in a transactional batch");
+            }
+            BatchSubRequest subRequest = new BatchSubRequest(request, method, operation.getPath(),
+                    bodyBytes(operation.getBody()), headers);
+            BatchSubResponse subResponse = new BatchSubResponse(response);
+            if (authentication != null) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                CONTEXTS.saveContext(context, subRequest, subResponse);
+            }
+            operations.add(new Operation(id, READ_METHODS.contains(method), subRequest, subResponse));
+        }
+        return operations;
+    }
+
+    // Only /api/v1 routes, except the batch route itself and the auth routes, which issue
+    // tokens and set cookies
+    private static void checkPath(String id, String path) {
+        if (path == null || !path.startsWith(API_PREFIX)) {
+            throw new ValidationException("Operation " + id + ": path must start with " + API_PREFIX);
+        }
+        String route = path.split("\\?", 2)[0].toLowerCase(Locale.ROOT);
+        if (UNSAFE_PATH_PARTS.stream().anyMatch(route::contains)) {
+            throw new ValidationException("Operation " + id + ": invalid path " + path);
+        }
+        if (route.equals("/api/v1/batch") || route.startsWith("/api/v1/batch/") || route.startsWith("/api/v1/auth/")) {
+            throw new ValidationException("Operation " + id + ": " + route + " cannot be batched");
+        }
+    }
+
+    private byte[] bodyBytes(JsonNode body) {
+        if (body == null || body.isNull()) {
+            return new byte[0];
+        }
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new ValidationException("Invalid operation body");
+        }
+    }
+
+    // application/json and the +json types (problem details)
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType type = MediaType.parseMediaType(contentType);
+            return type.isCompatibleWith(MediaType.APPLICATION_JSON) || "json".equals(type.getSubtypeSuffix());
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    private record Operation(String id, boolean read, BatchSubRequest request, BatchSubResponse response) {
+    }
+
+    // The filters in order, then the DispatcherServlet
+    private static final class OperationChain implements FilterChain {
+
+        private final List<Filter> filters;
+        private final Servlet servlet;
+        private int position;
+
+        OperationChain(List<Filter> filters, Servlet servlet) {
+            this.filters = filters;
+            this.servlet = servlet;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            if (position < filters.size()) {
+                filters.get(position++).doFilter(request, response, this);
+            } else {
+                servlet.service(request, response);
+            }
+        }
+    }
+}
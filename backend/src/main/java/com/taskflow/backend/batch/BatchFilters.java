@@ -0,0 +1,81 @@
+package com.taskflow.backend.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.web.servlet.AbstractFilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletContextInitializer;
+import org.springframework.boot.web.servlet.ServletContextInitializerBeans;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+
+// The servlet filters the container runs in front of the DispatcherServlet for an /api/v1
+// request (security, SQL accounting, HTTP metrics, ...), in the container's order. They are
+// read from the same registrations Spring Boot hands to the container, so a filter added
+// later applies to batch operations too. Filters mapped to other paths or servlets, or not
+// to REQUEST dispatches, are left out and listed at startup.
+@Component
+public class BatchFilters implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchFilters.class);
+
+    private final ListableBeanFactory beanFactory;
+    private volatile List<Filter> filters;
+
+    @Autowired
+    public BatchFilters(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    // A fixed chain, for tests
+    BatchFilters(List<Filter> filters) {
+        this.beanFactory = null;
+        this.filters = List.copyOf(filters);
+    }
+
+    public List<Filter> getFilters() {
+        List<Filter> resolved = filters;
+        if (resolved == null) {
+            throw new IllegalStateException("Batch filters are resolved once all beans are created");
+        }
+        return resolved;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Filter> applied = new ArrayList<>();
+        for (ServletContextInitializer initializer : new ServletContextInitializerBeans(beanFactory)) {
+            if (!(initializer instanceof AbstractFilterRegistrationBean<?> registration) || !registration.isEnabled()) {
+                continue;
+            }
+            if (appliesToApiRequests(registration)) {
+                applied.add(registration.getFilter());
+            } else {
+                logger.info("Filter {} is not applied to batch operations: {}", registration.getFilterName(),
+                        registration);
+            }
+        }
+        filters = List.copyOf(applied);
+    }
+
+    private static boolean appliesToApiRequests(AbstractFilterRegistrationBean<?> registration) {
+        if (!registration.determineDispatcherTypes().contains(DispatcherType.REQUEST)) {
+            return false;
+        }
+        // No mapping at all means /*
+        if (registration.getUrlPatterns().isEmpty() && registration.getServletNames().isEmpty()
+                && registration.getServletRegistrationBeans().isEmpty()) {
+            return true;
+        }
+        return registration.getUrlPatterns().contains("/*") || registration.getServletNames()
+                .contains(DispatcherServletAutoConfiguration.DEFAULT_DISPATCHER_SERVLET_BEAN_NAME);
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskflow.backend.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.batch")
+public class BatchProperties {
+
+    // Most operations in one POST /api/v1/batch
+    private int maxRequests = 20;
+    // Threads running read operations in parallel, shared by all batches; each one holds a
+    // database connection while it runs
+    private int readThreads = 4;
+}
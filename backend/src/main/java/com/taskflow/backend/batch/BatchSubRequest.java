@@ -0,0 +1,279 @@
+package com.taskflow.backend.batch;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+// One operation of a batch as a request of its own: method, path, query parameters, body
+// and attributes are the operation's; connection details and the remaining headers
+// (Authorization among them) are the batch request's, copied when the operation is
+// prepared so that it can be dispatched on another thread.
+class BatchSubRequest extends HttpServletRequestWrapper {
+
+    // Describe the batch request's body, or belong to the batch request alone
+    private static final Set<String> NOT_COPIED = Set.of("content-length", "content-type", "transfer-encoding",
+            "accept", "expect", "origin", "idempotency-key");
+
+    private final String method;
+    private final String contextPath;
+    private final String path;
+    private final String queryString;
+    private final byte[] body;
+    private final HttpHeaders headers = new HttpHeaders();
+    private final Map<String, String[]> parameters = new LinkedHashMap<>();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    BatchSubRequest(HttpServletRequest batch, String method, String pathAndQuery, byte[] body,
+                    Map<String, String> operationHeaders) {
+        super(batch);
+        this.method = method;
+        this.contextPath = batch.getContextPath();
+        this.body = body;
+        int query = pathAndQuery.indexOf('?');
+        this.path = query < 0 ? pathAndQuery : pathAndQuery.substring(0, query);
+        this.queryString = query < 0 ? null : pathAndQuery.substring(query + 1);
+        UriComponentsBuilder.fromUriString(pathAndQuery).build().getQueryParams().forEach((name, values) ->
+                parameters.put(decode(name), values.stream().map(value -> value != null ? decode(value) : "")
+                        .toArray(String[]::new)));
+
+        for (String name : Collections.list(batch.getHeaderNames())) {
+            if (!NOT_COPIED.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, Collections.list(batch.getHeaders(name)));
+            }
+        }
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (body.length > 0) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentLength(body.length);
+        }
+        operationHeaders.forEach(headers::set);
+    }
+
+    // Query strings are form-encoded: '+' is a space
+    private static String decode(String value) {
+        return UriUtils.decode(value.replace('+', ' '), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return contextPath + path;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer(getScheme()).append("://").append(getServerName());
+        if (getServerPort() > 0) {
+            url.append(':').append(getServerPort());
+        }
+        return url.append(getRequestURI());
+    }
+
+    // The DispatcherServlet is mapped to "/", so the servlet path is the whole decoded path
+    @Override
+    public String getServletPath() {
+        return UriUtils.decode(path, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values != null ? values[0] : null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return Collections.enumeration(values != null ? values : List.of());
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = headers.getFirst(name);
+        return value != null ? Integer.parseInt(value) : -1;
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        return headers.getFirstDate(name);
+    }
+
+    @Override
+    public String getContentType() {
+        return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return body.length > 0 ? StandardCharsets.UTF_8.name() : null;
+    }
+
+    @Override
+    public void setCharacterEncoding(String encoding) {
+        // The body is always UTF-8 JSON
+    }
+
+    @Override
+    public int getContentLength() {
+        return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return body.length;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                return in.read(buffer, offset, length);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            // As the servlet spec requires outside asynchronous processing, which operations never use
+            @Override
+            public void setReadListener(ReadListener listener) {
+                throw new IllegalStateException("A ReadListener requires asynchronous processing");
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    // Operations are answered synchronously; asynchronous (/api/v2) routes are not batched
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("Asynchronous processing is not supported in a batch");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+        throw new IllegalStateException("Asynchronous processing is not supported in a batch");
+    }
+}
@@ -0,0 +1,221 @@
+package com.taskflow.backend.batch;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+// Collects the status, headers and body of one batch operation. The body is buffered by
+// ContentCachingResponseWrapper; status and headers are kept by a detached response
+// underneath, so nothing reaches the batch response itself.
+class BatchSubResponse extends ContentCachingResponseWrapper {
+
+    BatchSubResponse(HttpServletResponse batch) {
+        super(new DetachedResponse(batch));
+    }
+
+    byte[] getContent() {
+        return getContentAsByteArray();
+    }
+
+    // There is no error page dispatch for an operation: the status is its result
+    @Override
+    public void sendError(int status) {
+        sendError(status, null);
+    }
+
+    @Override
+    public void sendError(int status, String message) {
+        resetBuffer();
+        setStatus(status);
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        resetBuffer();
+        setStatus(SC_FOUND);
+        setHeader(HttpHeaders.LOCATION, location);
+    }
+
+    private static class DetachedResponse extends HttpServletResponseWrapper {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private int status = SC_OK;
+        private String characterEncoding = "UTF-8";
+        private ServletOutputStream outputStream;
+
+        DetachedResponse(HttpServletResponse batch) {
+            super(batch);
+        }
+
+        @Override
+        public void setStatus(int status) {
+            this.status = status;
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public boolean containsHeader(String name) {
+            return headers.containsKey(name);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return headers.getFirst(name);
+        }
+
+        @Override
+        public Collection<String> getHeaders(String name) {
+            List<String> values = headers.get(name);
+            return values != null ? List.copyOf(values) : List.of();
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return List.copyOf(headers.keySet());
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            headers.set(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            headers.add(name, value);
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            headers.set(name, Integer.toString(value));
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            headers.add(name, Integer.toString(value));
+        }
+
+        @Override
+        public void setDateHeader(String name, long date) {
+            headers.setDate(name, date);
+        }
+
+        @Override
+        public void addDateHeader(String name, long date) {
+            headers.add(name, DateTimeFormatter.RFC_1123_DATE_TIME
+                    .format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC)));
+        }
+
+        @Override
+        public void setContentType(String type) {
+            if (type == null) {
+                headers.remove(HttpHeaders.CONTENT_TYPE);
+                return;
+            }
+            MediaType mediaType = MediaType.parseMediaType(type);
+            if (mediaType.getCharset() != null) {
+                characterEncoding = mediaType.getCharset().name();
+            }
+            headers.set(HttpHeaders.CONTENT_TYPE, type);
+        }
+
+        @Override
+        public String getContentType() {
+            return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        }
+
+        @Override
+        public void setCharacterEncoding(String encoding) {
+            if (encoding != null) {
+                characterEncoding = encoding;
+            }
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return characterEncoding;
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            headers.setContentLength(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            headers.setContentLength(length);
+        }
+
+        @Override
+        public void setLocale(Locale locale) {
+            // Not part of a batch result
+        }
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            // Not part of a batch result; cookie-setting (auth) routes cannot be batched
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return false;
+        }
+
+        @Override
+        public void flushBuffer() {
+            // Nothing is sent
+        }
+
+        @Override
+        public void resetBuffer() {
+            // The body is ContentCachingResponseWrapper's
+        }
+
+        @Override
+        public void reset() {
+            headers.clear();
+            status = SC_OK;
+        }
+
+        // Wrapped by ContentCachingResponseWrapper, which writes to its own buffer instead
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) {
+                        throw new IllegalStateException("Batch operation bodies are buffered, not written");
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    // Operations never run asynchronously (BatchSubRequest.isAsyncSupported)
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        throw new IllegalStateException("A WriteListener requires asynchronous processing");
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
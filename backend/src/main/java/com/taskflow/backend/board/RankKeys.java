@@ -0,0 +1,99 @@
+package com.taskflow.backend.board;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+// Fractional rank keys for ordering tasks within a board column. A key is the base-62
+// digit string of a fraction in (0, 1): "V" is 31/62, "V1" is 31/62 + 1/62^2. The digits
+// are in ASCII order, so comparing keys byte-wise (collation "C") compares the fractions,
+// and there is always room between two keys: moving a task only rewrites its own key.
+// Keys never end in '0', so every key has a neighbour below it as well.
+public final class RankKeys {
+
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final BigInteger BASE = BigInteger.valueOf(DIGITS.length());
+    // Spacing, in units of the last digit, left between keys spread over a range, so the
+    // first moves into a freshly spread column do not lengthen keys
+    private static final BigInteger SPREAD_GAP = BigInteger.valueOf(DIGITS.length());
+
+    private RankKeys() {
+    }
+
+    // A key strictly between after and before; null after means the start of the column,
+    // null before the end
+    public static String between(String after, String before) {
+        return spread(after, before, 1, BigInteger.ONE).get(0);
+    }
+
+    // count keys evenly spaced strictly between after and before (nulls as in between()),
+    // as short as the spacing allows
+    public static List<String> spread(String after, String before, int count) {
+        return spread(after, before, count, SPREAD_GAP);
+    }
+
+    private static List<String> spread(String after, String before, int count, BigInteger minGap) {
+        if (after != null && before != null && after.compareTo(before) >= 0) {
+            throw new IllegalArgumentException("Rank '" + after + "' is not before '" + before + "'");
+        }
+        int width = Math.max(1, Math.max(length(after), length(before)));
+        BigInteger slots = BigInteger.valueOf(count + 1L);
+        while (true) {
+            BigInteger low = after != null ? value(after, width) : BigInteger.ZERO;
+            BigInteger high = before != null ? value(before, width) : BASE.pow(width);
+            BigInteger step = high.subtract(low).divide(slots);
+            if (step.compareTo(minGap) >= 0) {
+                List<String> keys = new ArrayList<>(count);
+                for (int i = 1; i <= count; i++) {
+                    keys.add(format(low.add(step.multiply(BigInteger.valueOf(i))), width));
+                }
+                return keys;
+            }
+            width++;
+        }
+    }
+
+    public static boolean isValid(String key) {
+        if (key == null || key.isEmpty() || key.charAt(key.length() - 1) == '0') {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int length(String key) {
+        return key != null ? key.length() : 0;
+    }
+
+    // The key's fraction scaled by 62^width (the key padded with '0' to width digits)
+    private static BigInteger value(String key, int width) {
+        if (!isValid(key)) {
+            throw new IllegalArgumentException("Invalid rank key '" + key + "'");
+        }
+        BigInteger value = BigInteger.ZERO;
+        for (int i = 0; i < width; i++) {
+            int digit = i < key.length() ? DIGITS.indexOf(key.charAt(i)) : 0;
+            value = value.multiply(BASE).add(BigInteger.valueOf(digit));
+        }
+        return value;
+    }
+
+    // Inverse of value(), without the trailing zeros (same fraction, shorter key)
+    private static String format(BigInteger value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            BigInteger[] division = value.divideAndRemainder(BASE);
+            digits[i] = DIGITS.charAt(division[1].intValue());
+            value = division[0];
+        }
+        int end = width;
+        while (end > 0 && digits[end - 1] == '0') {
+            end--;
+        }
+        return new String(digits, 0, end);
+    }
+}
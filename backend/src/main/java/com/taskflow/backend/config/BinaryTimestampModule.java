@@ -0,0 +1,84 @@
+package com.taskflow.backend.config;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+
+// LocalDateTime handling for the binary (CBOR/Smile) mappers. Values are written as
+// numbers instead of ISO strings: CBOR uses its standard epoch time tag (tag 1, seconds),
+// Smile has no date type and gets plain epoch milliseconds. Entity timestamps are local
+// to the server, so the conversion uses the system zone.
+public class BinaryTimestampModule extends SimpleModule {
+
+    private static final int CBOR_EPOCH_TIME_TAG = 1;
+
+    public BinaryTimestampModule() {
+        this(ZoneId.systemDefault());
+    }
+
+    public BinaryTimestampModule(ZoneId zone) {
+        super("BinaryTimestampModule");
+        addSerializer(LocalDateTime.class, new Serializer(zone));
+        addDeserializer(LocalDateTime.class, new Deserializer(zone));
+    }
+
+    private static final class Serializer extends JsonSerializer<LocalDateTime> {
+
+        private final ZoneId zone;
+
+        Serializer(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            long epochMillis = value.atZone(zone).toInstant().toEpochMilli();
+            if (gen instanceof CBORGenerator cbor) {
+                cbor.writeTag(CBOR_EPOCH_TIME_TAG);
+                if (epochMillis % 1000 == 0) {
+                    cbor.writeNumber(epochMillis / 1000);
+                } else {
+                    cbor.writeNumber(epochMillis / 1000.0);
+                }
+            } else {
+                gen.writeNumber(epochMillis);
+            }
+        }
+    }
+
+    // Accepts what the serializer writes (tagged seconds or epoch millis) and ISO strings
+    private static final class Deserializer extends JsonDeserializer<LocalDateTime> {
+
+        private final ZoneId zone;
+
+        Deserializer(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken().isNumeric()) {
+                long epochMillis = p instanceof CBORParser cbor && cbor.getCurrentTag() == CBOR_EPOCH_TIME_TAG
+                        ? Math.round(p.getDoubleValue() * 1000)
+                        : p.getLongValue();
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+            }
+            String text = p.getValueAsString();
+            if (text == null) {
+                return (LocalDateTime) ctxt.handleUnexpectedToken(LocalDateTime.class, p);
+            }
+            return LocalDateTime.parse(text.trim());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskflow.backend.config;
+
+import java.lang.reflect.Method;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import jakarta.annotation.PostConstruct;
+
+// With spring.main.lazy-initialization (the faststart profile) beans are created on first
+// use. Beans that work on their own, through @Scheduled jobs or @PostConstruct startup work
+// (the revocation list load, the task page LISTEN connection, ...), are usually nobody's
+// dependency and would never be created, so they stay eager.
+@Configuration
+public class LazyInitConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter selfStartingBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && startsItself(beanType);
+    }
+
+    private static boolean startsItself(Class<?> beanType) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanType)) {
+            if (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) || method.isAnnotationPresent(PostConstruct.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
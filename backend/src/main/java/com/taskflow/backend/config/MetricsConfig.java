@@ -0,0 +1,79 @@
+package com.taskflow.backend.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+@Configuration
+public class MetricsConfig {
+
+    // Guard against unmatched request paths blowing up the uri tag
+    @Bean
+    public MeterFilter httpUriCardinalityLimit() {
+        return MeterFilter.maximumAllowableTags("http.server.requests", "uri", 200, MeterFilter.deny());
+    }
+
+    // Time every public method on our @Service beans (TaskService, UserService, ...)
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(Service.class, true),
+                new ServiceTimingInterceptor(meterRegistry));
+        advisor.setOrder(0);
+        return advisor;
+    }
+
+    // Looks up a timer per method once and then only records nanoTime deltas,
+    // so the per-call path does not allocate tags or samples.
+    static final class ServiceTimingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final ConcurrentMap<Method, Timer> timers = new ConcurrentHashMap<>();
+
+        ServiceTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Timer timer = timerFor(invocation.getMethod());
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private Timer timerFor(Method method) {
+            Timer timer = timers.get(method);
+            if (timer == null) {
+                timer = timers.computeIfAbsent(method, m -> Timer.builder("taskflow.service")
+                        .description("Time spent in service methods")
+                        .tag("class", m.getDeclaringClass().getSimpleName())
+                        .tag("method", m.getName())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry.getObject()));
+            }
+            return timer;
+        }
+    }
+}
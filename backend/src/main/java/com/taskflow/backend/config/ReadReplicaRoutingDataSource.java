@@ -0,0 +1,179 @@
+package com.taskflow.backend.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Sends connections for read-only transactions to a healthy replica (round robin) and
+// everything else to the primary. Must sit behind a LazyConnectionDataSourceProxy: the
+// read-only flag is only set once the transaction has begun, so the physical connection
+// has to be fetched on first use rather than at begin.
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<ReplicaTarget> replicas;
+    private final long stickyWindowNanos;
+    private final long maxLagMillis;
+    private final Supplier<String> currentUser;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    // user -> nanoTime until which their reads go to the primary (read-your-writes)
+    private final ConcurrentMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                        long stickyWindowMs, long maxLagMs) {
+        this(primary, replicas, stickyWindowMs, maxLagMs, ReadReplicaRoutingDataSource::authenticatedUser);
+    }
+
+    ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                 long stickyWindowMs, long maxLagMs, Supplier<String> currentUser) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new ReplicaTarget(entry.getKey(), entry.getValue()))
+                .toList();
+        this.stickyWindowNanos = TimeUnit.MILLISECONDS.toNanos(stickyWindowMs);
+        this.maxLagMillis = maxLagMs;
+        this.currentUser = currentUser;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        ReplicaTarget replica = selectReplica();
+        return replica != null ? replica.name : PRIMARY;
+    }
+
+    // Falls back to the primary if the chosen replica cannot hand out a connection
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        ReplicaTarget replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException ex) {
+                markDown(replica, ex.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    private ReplicaTarget selectReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        String user = currentUser.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null) {
+                stickyUntil.put(user, System.nanoTime() + stickyWindowNanos);
+            }
+            return null;
+        }
+        if (user != null) {
+            Long until = stickyUntil.get(user);
+            if (until != null) {
+                if (until - System.nanoTime() > 0) {
+                    return null;
+                }
+                stickyUntil.remove(user, until);
+            }
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaTarget candidate = replicas.get((start + i) % size);
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // Probes every replica: reachable, and (on a real standby) not lagging more than maxLag
+    public void checkReplicas() {
+        for (ReplicaTarget replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                // Null on a server that is not in recovery (a stand-in replica)
+                try (ResultSet rs = statement.executeQuery(
+                        "select extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000")) {
+                    rs.next();
+                    double lagMillis = rs.getDouble(1);
+                    if (!rs.wasNull() && lagMillis > maxLagMillis && !noPendingWal(connection)) {
+                        markDown(replica, "replication lag " + Math.round(lagMillis) + " ms");
+                        continue;
+                    }
+                }
+                if (!replica.healthy) {
+                    logger.info("Replica {} is back in rotation", replica.name);
+                }
+                replica.healthy = true;
+            } catch (SQLException ex) {
+                markDown(replica, ex.getMessage());
+            }
+        }
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    // An idle primary produces no WAL, so replay age grows without the replica being behind
+    private static boolean noPendingWal(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "select pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private void markDown(ReplicaTarget replica, String reason) {
+        if (replica.healthy) {
+            logger.warn("Taking replica {} out of rotation: {}", replica.name, reason);
+        }
+        replica.healthy = false;
+    }
+
+    private static String authenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    private static final class ReplicaTarget {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        ReplicaTarget(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskflow.backend.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+// Replaces the auto-configured DataSource with primary + replica pools behind a routing
+// DataSource. The pools are deliberately not beans, so there is still exactly one
+// DataSource in the context (JPA, Flyway and SQL accounting all see the routing one).
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica-routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaRoutingProperties routing,
+                                 Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = pool(poolConfig("primary", dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(), environment, meterRegistry));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaRoutingProperties.Replica> configured = routing.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReplicaRoutingProperties.Replica replica = configured.get(i);
+            String name = "replica-" + i;
+            HikariConfig config = poolConfig(name, replica.getUrl(),
+                    replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername(),
+                    replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword(),
+                    environment, meterRegistry);
+            config.setReadOnly(true);
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+            config.setConnectionTimeout(replica.getConnectionTimeout());
+            // Do not fail startup when a replica is down; the health check takes it out of rotation
+            config.setInitializationFailTimeout(-1);
+            replicas.put(name, pool(config));
+        }
+
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, replicas, routing.getStickyWindow(), routing.getMaxLag());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica-routing.health-check-interval:5000}")
+    public void checkReplicas() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicas();
+        }
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource pool(HikariConfig config) {
+        HikariDataSource pool = new HikariDataSource(config);
+        pools.add(pool);
+        return pool;
+    }
+
+    // spring.datasource.hikari.* applies to every pool
+    private static HikariConfig poolConfig(String name, String url, String username, String password,
+                                           Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return config;
+    }
+}
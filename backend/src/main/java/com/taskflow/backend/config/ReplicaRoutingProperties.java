@@ -0,0 +1,36 @@
+package com.taskflow.backend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica-routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled = false;
+
+    // After a user's read-write transaction, their reads stay on the primary this long (ms)
+    private long stickyWindow = 5000;
+
+    private long healthCheckInterval = 5000;
+
+    // A replica further behind than this is taken out of rotation (ms)
+    private long maxLag = 10000;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String url;
+        // Default to the primary's credentials
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        // Kept short so a dead replica costs a read this long at most before failing over (ms)
+        private long connectionTimeout = 1000;
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskflow.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables @Scheduled background jobs (token revocation sync, write-behind flushes, ...)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
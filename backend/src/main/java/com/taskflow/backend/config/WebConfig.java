@@ -1,11 +1,21 @@
 package com.taskflow.backend.config;
 
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskflow.backend.dto.TaskFieldPlan;
+
 @Configuration
 public class WebConfig {
 
@@ -17,10 +27,37 @@ public class WebConfig {
             public void addCorsMappings(@NonNull CorsRegistry registry) {
                 registry.addMapping("/api/v1/**") // Apply CORS to your API endpoints
                         .allowedOrigins("http://localhost:5173") // Allow frontend origin
-                        .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // Allowed HTTP methods
+                        .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS") // Allowed HTTP methods
                         .allowedHeaders("*") // Allow all headers
                         .allowCredentials(true); // Allow credentials (cookies, authorization headers)
             }
         };
     }
-} 
\ No newline at end of file
+
+    // TaskResponseDTO carries @JsonFilter; without a default provider every mapper that
+    // serializes it outside a sparse-fieldset response would fail
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer taskFieldFilterCustomizer() {
+        return builder -> builder.filters(TaskFieldPlan.DEFAULT_FILTERS);
+    }
+
+    // Binary encodings selected with Accept: application/cbor or application/x-jackson-smile.
+    // Built from Boot's builder so they share the JSON mapper's settings and modules, and
+    // they replace the default CBOR/Smile converters MVC registers from plain builders.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binaryMapper(builder, new CBORFactory()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(binaryMapper(builder, new SmileFactory()));
+    }
+
+    // Registered after build() so its LocalDateTime handling takes precedence over JavaTimeModule
+    public static ObjectMapper binaryMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        ObjectMapper mapper = builder.factory(factory).build();
+        mapper.registerModule(new BinaryTimestampModule());
+        return mapper;
+    }
+}
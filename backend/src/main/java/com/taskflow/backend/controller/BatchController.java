@@ -0,0 +1,43 @@
+package com.taskflow.backend.controller;
+
+import com.taskflow.backend.batch.BatchExecutor;
+import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.dto.BatchRequest;
+import com.taskflow.backend.dto.BatchResult;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/batch")
+@CrossOrigin
+public class BatchController {
+
+    private final BatchExecutor batchExecutor;
+
+    public BatchController(BatchExecutor batchExecutor) {
+        this.batchExecutor = batchExecutor;
+    }
+
+    // Several /api/v1 requests in one round trip, e.g.
+    // {"requests": [{"id": "tasks", "path": "/api/v1/tasks?size=5"},
+    //               {"id": "done", "method": "PATCH", "path": "/api/v1/tasks/7", "body": {"completed": true}}]}
+    // Answered with 200 and each operation's own status and body, in order. With
+    // "transactional": true the operations run in one transaction, rolled back (and the
+    // remaining operations skipped with 424) as soon as one fails.
+    @PostMapping
+    public ResponseEntity<ApiResponse<List<BatchResult>>> executeBatch(@RequestBody BatchRequest batch,
+                                                                       HttpServletRequest request,
+                                                                       HttpServletResponse response) {
+        List<BatchResult> results = batchExecutor.execute(batch, request, response);
+        String message = null;
+        if (batch.isTransactional()) {
+            message = results.stream().anyMatch(result -> result.status() >= 400)
+                    ? "Batch rolled back" : "Batch committed";
+        }
+        return ResponseEntity.ok(ApiResponse.success(results, message));
+    }
+}
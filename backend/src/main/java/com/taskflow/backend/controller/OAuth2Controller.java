@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.taskflow.backend.model.User;
 import com.taskflow.backend.repository.UserRepository;
 import com.taskflow.backend.security.JwtTokenProvider;
+import com.taskflow.backend.service.UserWriteBehindBuffer;
 
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -33,6 +34,9 @@ public class OAuth2Controller {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private UserWriteBehindBuffer userWriteBehindBuffer;
+
     @GetMapping("/callback/github")
     public void handleGithubCallback(@RequestParam String code, @RequestParam String state, HttpServletResponse response) throws IOException {
         // Note: The actual OAuth authentication is handled by Spring Security
@@ -63,8 +67,7 @@ public class OAuth2Controller {
                     });
 
             // Update last login
-            user.setLastLogin(LocalDateTime.now());
-            userRepository.save(user);
+            userWriteBehindBuffer.recordLogin(user.getEmail(), LocalDateTime.now());
 
             // Generate JWT tokens
             String token = jwtTokenProvider.generateToken(authentication);
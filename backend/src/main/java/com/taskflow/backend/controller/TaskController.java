@@ -1,15 +1,34 @@
 package com.taskflow.backend.controller;
 
+import com.taskflow.backend.archive.TaskArchiver;
 import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.dto.MoveTaskRequest;
+import com.taskflow.backend.dto.OccurrenceRequest;
 import com.taskflow.backend.dto.PageRequest;
+import com.taskflow.backend.dto.ParentRequest;
+import com.taskflow.backend.dto.TaskBatchGetRequest;
+import com.taskflow.backend.dto.TaskBatchResponse;
+import com.taskflow.backend.dto.TaskExpansion;
 import com.taskflow.backend.model.Task;
+import com.taskflow.backend.dto.TaskFieldPlan;
+import com.taskflow.backend.dto.TaskPatchRequest;
 import com.taskflow.backend.dto.TaskRequest;
 import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.dto.TaskRollupDTO;
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.pagecache.TaskPageCache;
+import com.taskflow.backend.service.TaskBoardService;
+import com.taskflow.backend.service.TaskHierarchyService;
 import com.taskflow.backend.service.TaskService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,34 +37,106 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBoardService taskBoardService;
+    private final TaskHierarchyService taskHierarchyService;
+    private final TaskArchiver taskArchiver;
+    private final TaskPageCache taskPageCache;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskBoardService taskBoardService,
+                          TaskHierarchyService taskHierarchyService, TaskArchiver taskArchiver,
+                          TaskPageCache taskPageCache) {
         this.taskService = taskService;
+        this.taskBoardService = taskBoardService;
+        this.taskHierarchyService = taskHierarchyService;
+        this.taskArchiver = taskArchiver;
+        this.taskPageCache = taskPageCache;
     }
 
-    // Get all tasks for the current user with pagination
+    // Get all tasks for the current user with pagination;
+    // fields= (comma-separated TaskResponseDTO properties) narrows both the query and the response.
+    // With from/to (yyyy-MM-dd, inclusive) it lists the tasks due in that window instead, by due
+    // date, with recurring tasks expanded into their occurrences.
+    // includeArchived=true lists archived (completed long ago) tasks as well.
+    // label= (repeatable or comma-separated) keeps only tasks carrying all of the given labels.
+    // The plain first page (any sort and fields=) is served from TaskPageCache.
+    // With ids= (comma-separated) it returns those tasks instead, unpaged, and expand=
+    // (dependencies, assignee, category) resolves what they refer to; see TaskBatchResponse.
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<TaskResponseDTO>>> getAllTasks(
+    public ResponseEntity<?> getAllTasks(
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(required = false) String sort,
             @RequestParam(defaultValue = "asc") String direction,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) String filter) {
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) List<String> label,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) List<Long> ids,
+            @RequestParam(required = false) List<String> expand,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (ids != null) {
+            if (from != null || to != null || includeArchived || label != null || search != null || filter != null
+                    || fields != null) {
+                throw new ValidationException("ids cannot be combined with other filters or fields");
+            }
+            return ResponseEntity.ok(ApiResponse.success(taskService.getTasks(ids, TaskExpansion.of(expand))));
+        }
+        if (expand != null) {
+            throw new ValidationException("expand requires ids");
+        }
         
         PageRequest pageRequest = new PageRequest(page, size, sort, direction);
         pageRequest.setSearch(search);
         pageRequest.setFilter(filter);
+        pageRequest.setLabels(label != null ? label : List.of());
+        TaskFieldPlan plan = TaskFieldPlan.of(fields);
+        if ((from == null) != (to == null)) {
+            throw new ValidationException("from and to must be given together");
+        }
+        if (from != null && includeArchived) {
+            throw new ValidationException("includeArchived cannot be combined with from/to");
+        }
+        if (from != null && !pageRequest.getLabels().isEmpty()) {
+            throw new ValidationException("label cannot be combined with from/to");
+        }
+        if (from == null && !includeArchived && taskPageCache.isCacheable(pageRequest, accept)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(taskPageCache.firstPage(pageRequest, plan, () -> taskService.getUserTasks(pageRequest, plan)));
+        }
         
-        Page<TaskResponseDTO> tasks = taskService.getUserTasks(pageRequest);
-        return ResponseEntity.ok(ApiResponse.success(tasks));
+        Page<TaskResponseDTO> tasks;
+        if (from != null) {
+            tasks = taskService.getUserTasks(pageRequest, from, to);
+        } else if (includeArchived) {
+            tasks = taskService.getUserTasksIncludingArchived(pageRequest);
+        } else {
+            tasks = taskService.getUserTasks(pageRequest, plan);
+        }
+        return ResponseEntity.ok(withFields(ApiResponse.success(tasks), plan));
     }
 
     // Get a specific task by ID
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<TaskResponseDTO>> getTask(@PathVariable Long id) {
-        TaskResponseDTO task = taskService.getTaskById(id);
-        return ResponseEntity.ok(ApiResponse.success(task));
+    public ResponseEntity<MappingJacksonValue> getTask(@PathVariable Long id,
+                                                       @RequestParam(required = false) String fields,
+                                                       @RequestParam(defaultValue = "false") boolean includeArchived) {
+        TaskFieldPlan plan = TaskFieldPlan.of(fields);
+        TaskResponseDTO task = includeArchived
+                ? taskService.getTaskByIdIncludingArchived(id)
+                : taskService.getTaskById(id, plan);
+        return ResponseEntity.ok(withFields(ApiResponse.success(task), plan));
+    }
+
+    private static MappingJacksonValue withFields(Object body, TaskFieldPlan plan) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (plan != TaskFieldPlan.ALL) {
+            value.setFilters(plan.getFilters());
+        }
+        return value;
     }
 
     // Create a new task
@@ -62,6 +153,13 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success(updatedTask, "Task updated successfully"));
     }
 
+    // Partially update a task (JSON Merge Patch): absent fields are kept, null clears a field
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<TaskResponseDTO>> patchTask(@PathVariable Long id, @RequestBody TaskPatchRequest patch) {
+        TaskResponseDTO updatedTask = taskService.patchTask(id, patch);
+        return ResponseEntity.ok(ApiResponse.success(updatedTask, "Task updated successfully"));
+    }
+
     // Delete a task
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<?>> deleteTask(@PathVariable Long id) {
@@ -69,6 +167,79 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success(null, "Task deleted successfully"));
     }
 
+    // One board column (tasks with this status) in board order
+    @GetMapping("/board/{status}")
+    public ResponseEntity<ApiResponse<Page<TaskResponseDTO>>> getBoardColumn(
+            @PathVariable String status,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "50") Integer size) {
+        return ResponseEntity.ok(ApiResponse.success(taskBoardService.getColumn(status, page, size)));
+    }
+
+    // Drag and drop: move a task within its column or into another one
+    @PutMapping("/{id}/position")
+    public ResponseEntity<ApiResponse<TaskResponseDTO>> moveTask(@PathVariable Long id, @RequestBody MoveTaskRequest request) {
+        TaskResponseDTO movedTask = taskBoardService.moveTask(id, request);
+        return ResponseEntity.ok(ApiResponse.success(movedTask, "Task moved successfully"));
+    }
+
+    // A task with all of its subtasks (maxDepth levels down); parentId links them
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<ApiResponse<List<TaskResponseDTO>>> getSubtree(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "2147483647") Integer maxDepth) {
+        return ResponseEntity.ok(ApiResponse.success(taskService.getSubtree(id, maxDepth)));
+    }
+
+    // Subtask count, story points and completion over a task and all of its subtasks
+    @GetMapping("/{id}/rollup")
+    public ResponseEntity<ApiResponse<TaskRollupDTO>> getRollup(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(taskHierarchyService.getRollup(id)));
+    }
+
+    // Move a task (with its subtasks) under another task, or to the top level
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<ApiResponse<TaskResponseDTO>> moveSubtree(@PathVariable Long id, @RequestBody ParentRequest request) {
+        TaskResponseDTO movedTask = taskHierarchyService.moveSubtree(id, request.getParentId());
+        return ResponseEntity.ok(ApiResponse.success(movedTask, "Task moved successfully"));
+    }
+
+    // Move an archived task (with its archived subtasks) back to the live tasks
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<ApiResponse<TaskResponseDTO>> restoreTask(@PathVariable Long id) {
+        TaskResponseDTO restoredTask = taskArchiver.restore(id);
+        return ResponseEntity.ok(ApiResponse.success(restoredTask, "Task restored successfully"));
+    }
+
+    // Complete, cancel or edit one occurrence of a recurring task
+    @PutMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<ApiResponse<TaskResponseDTO>> updateOccurrence(
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestBody OccurrenceRequest request) {
+        TaskResponseDTO occurrence = taskService.updateOccurrence(id, date, request);
+        return ResponseEntity.ok(ApiResponse.success(occurrence, "Occurrence updated successfully"));
+    }
+
+    // Undo the changes to one occurrence
+    @DeleteMapping("/{id}/occurrences/{date}")
+    public ResponseEntity<ApiResponse<?>> resetOccurrence(
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        taskService.resetOccurrence(id, date);
+        return ResponseEntity.ok(ApiResponse.success(null, "Occurrence reset successfully"));
+    }
+
+    // The batch read of GET ?ids=, with the ids in the body
+    @PostMapping("/batch-get")
+    public ResponseEntity<ApiResponse<TaskBatchResponse>> batchGetTasks(@RequestBody TaskBatchGetRequest request) {
+        if (request.getIds() == null) {
+            throw new ValidationException("ids is required");
+        }
+        return ResponseEntity.ok(ApiResponse.success(
+                taskService.getTasks(request.getIds(), TaskExpansion.of(request.getExpand()))));
+    }
+
     // Bulk create tasks
     @PostMapping("/bulk")
     public ResponseEntity<ApiResponse<List<Task>>> createBulkTasks(@RequestBody List<Task> tasks) {
@@ -0,0 +1,53 @@
+package com.taskflow.backend.controller;
+
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.security.UserPrincipal;
+import com.taskflow.backend.stream.TaskStreamProperties;
+import com.taskflow.backend.stream.TaskStreamRepository;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Read-only task API for integrations (v2). Responses are bare TaskResponseDTOs, read over
+// R2DBC: the request thread is released as soon as the query is issued, and the rows are
+// written as they arrive. Authentication is the same JWT filter as /api/v1.
+@RestController
+@RequestMapping("/api/v2/tasks")
+public class TaskStreamController {
+
+    private final TaskStreamRepository taskStreamRepository;
+    private final TaskStreamProperties properties;
+
+    public TaskStreamController(TaskStreamRepository taskStreamRepository, TaskStreamProperties properties) {
+        this.taskStreamRepository = taskStreamRepository;
+        this.properties = properties;
+    }
+
+    // The current user's tasks, newest first, at most limit of them.
+    // application/x-ndjson (the default) streams one task per line, each written once read, and
+    // reads no further ahead than the client; Accept: application/json returns an array.
+    // label= (repeatable or comma-separated) keeps only tasks carrying all of the given labels.
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<TaskResponseDTO> getTasks(
+            @RequestParam(required = false) List<String> label,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > properties.getMaxLimit()) {
+            throw new ValidationException("limit must be between 1 and " + properties.getMaxLimit());
+        }
+        // Read here, on the request thread that holds the security context
+        Long userId = UserPrincipal.currentId();
+        return taskStreamRepository.findByUserId(userId, label != null ? label : List.of(), limit);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TaskResponseDTO> getTask(@PathVariable Long id) {
+        Long userId = UserPrincipal.currentId();
+        return taskStreamRepository.findByIdAndUserId(id, userId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found with id: " + id)));
+    }
+}
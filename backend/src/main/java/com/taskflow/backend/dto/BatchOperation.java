@@ -0,0 +1,21 @@
+package com.taskflow.backend.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Data;
+
+// One request of a batch: an /api/v1 route as the client would call it on its own
+@Data
+public class BatchOperation {
+    // Echoed in the result; defaults to the operation's position
+    private String id;
+    private String method = "GET";
+    // Path and query string, e.g. /api/v1/tasks?size=5
+    private String path;
+    private JsonNode body;
+    // Added to (or replacing) the batch request's own headers
+    private Map<String, String> headers = new LinkedHashMap<>();
+}
@@ -0,0 +1,14 @@
+package com.taskflow.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+// Body of POST /api/v1/batch
+@Data
+public class BatchRequest {
+    // Run every operation, in order, in one transaction that is rolled back if any of them fails
+    private boolean transactional;
+    private List<BatchOperation> requests = new ArrayList<>();
+}
@@ -0,0 +1,7 @@
+package com.taskflow.backend.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// Status and body the operation's route answered with; the body is JSON where the route
+// returned JSON, a string otherwise, and null when empty
+public record BatchResult(String id, int status, JsonNode body) {}
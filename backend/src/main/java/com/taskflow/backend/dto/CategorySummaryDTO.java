@@ -0,0 +1,3 @@
+package com.taskflow.backend.dto;
+
+public record CategorySummaryDTO(Long id, String name) {}
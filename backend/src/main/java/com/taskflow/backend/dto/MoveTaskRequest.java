@@ -0,0 +1,11 @@
+package com.taskflow.backend.dto;
+
+import lombok.Data;
+
+// Drag-and-drop target: the column (status, default the task's current one) and the task
+// it is dropped below (null = top of the column)
+@Data
+public class MoveTaskRequest {
+    private String status;
+    private Long afterId;
+}
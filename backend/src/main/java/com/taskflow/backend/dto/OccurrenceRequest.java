@@ -0,0 +1,13 @@
+package com.taskflow.backend.dto;
+
+import lombok.Data;
+
+// Changes to a single occurrence of a recurring task; null fields keep the series value
+@Data
+public class OccurrenceRequest {
+    private boolean completed;
+    private boolean cancelled;
+    private String title;
+    private String description;
+    private String status;
+}
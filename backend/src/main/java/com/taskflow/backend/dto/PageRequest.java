@@ -1,5 +1,7 @@
 package com.taskflow.backend.dto;
 
+import java.util.List;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -12,6 +14,8 @@ public class PageRequest {
     private String direction = "asc";
     private String search;
     private String filter;
+    // Only tasks carrying all of these labels
+    private List<String> labels = List.of();
 
     public PageRequest(Integer page, Integer size) {
         this.page = page;
@@ -72,4 +76,12 @@ public class PageRequest {
     public void setFilter(String filter) {
         this.filter = filter;
     }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(List<String> labels) {
+        this.labels = labels;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.taskflow.backend.dto;
+
+import lombok.Data;
+
+// New parent of a task (with its subtasks); null makes it a top-level task
+@Data
+public class ParentRequest {
+    private Long parentId;
+}
@@ -0,0 +1,12 @@
+package com.taskflow.backend.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+// Body of POST /api/v1/tasks/batch-get, for id lists too long for a URL
+@Data
+public class TaskBatchGetRequest {
+    private List<Long> ids;
+    private List<String> expand;
+}
@@ -0,0 +1,17 @@
+package com.taskflow.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Tasks read by id, in the order asked for. The maps are present when expanded and hold
+// every referenced entity once, keyed by id: dependencies that are not among tasks, and the
+// assignees and categories of both.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskBatchResponse(List<TaskResponseDTO> tasks,
+                                // Ids that do not exist or belong to someone else
+                                List<Long> missing,
+                                Map<Long, TaskResponseDTO> dependencies,
+                                Map<Long, UserSummaryDTO> assignees,
+                                Map<Long, CategorySummaryDTO> categories) {}
@@ -0,0 +1,40 @@
+package com.taskflow.backend.dto;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import com.taskflow.backend.exception.ValidationException;
+
+// Entities a batch task read can resolve along with the tasks (expand=)
+public enum TaskExpansion {
+    DEPENDENCIES,
+    ASSIGNEE,
+    CATEGORY;
+
+    // Names as given in expand= (repeatable or comma-separated), case-insensitive
+    public static Set<TaskExpansion> of(List<String> names) {
+        EnumSet<TaskExpansion> expansions = EnumSet.noneOf(TaskExpansion.class);
+        if (names == null) {
+            return expansions;
+        }
+        List<String> unknown = new ArrayList<>();
+        for (String name : names) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                expansions.add(valueOf(trimmed.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                unknown.add(trimmed);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new ValidationException("Unknown expansions: " + String.join(", ", unknown));
+        }
+        return expansions;
+    }
+}
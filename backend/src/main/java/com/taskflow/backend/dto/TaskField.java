@@ -0,0 +1,62 @@
+package com.taskflow.backend.dto;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Properties of TaskResponseDTO that can be requested with fields=, each mapped to a JPQL path
+// (t = task, a = assignee). Labels and dependencies are array columns of the task row.
+public enum TaskField {
+    ID("id", "t.id"),
+    TITLE("title", "t.title"),
+    DESCRIPTION("description", "t.description"),
+    STATUS("status", "t.status"),
+    RANK("rank", "t.rank"),
+    PARENT_ID("parentId", "t.parentId"),
+    PRIORITY("priority", "t.priority"),
+    TYPE("type", "t.type"),
+    COMPLETED("completed", "t.completed"),
+    STORY_POINTS("storyPoints", "t.storyPoints"),
+    LABELS("labels", "t.labels"),
+    DEPENDENCIES("dependencies", "t.dependencies"),
+    ASSIGNEE_ID("assigneeId", "a.id"),
+    ASSIGNEE_NAME("assigneeName", "a.name"),
+    DUE_DATE("dueDate", "t.dueDate"),
+    RECURRENCE("recurrence", "t.recurrence"),
+    CREATED_AT("createdAt", "t.createdAt"),
+    UPDATED_AT("updatedAt", "t.updatedAt");
+
+    private static final Map<String, TaskField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(TaskField::getName, Function.identity()));
+
+    private final String name;
+    private final String path;
+
+    TaskField(String name, String path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    // List-valued; cannot be sorted on
+    public boolean isCollection() {
+        return this == LABELS || this == DEPENDENCIES;
+    }
+
+    public boolean isAssignee() {
+        return path != null && path.startsWith("a.");
+    }
+
+    // Null when the name is not a task field
+    public static TaskField byName(String name) {
+        return BY_NAME.get(name);
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskflow.backend.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.taskflow.backend.exception.ValidationException;
+
+// Query and serialization plan for one set of requested task fields. Plans are built once
+// per distinct field set (keyed by bitmask, so the cache is bounded) and reused: the JPQL
+// select list and the Jackson filter are computed here, not per request.
+public final class TaskFieldPlan {
+
+    // Filter id referenced by @JsonFilter on TaskResponseDTO
+    public static final String FILTER_ID = "taskFields";
+
+    // Serializes everything; installed as the mapper default so TaskResponseDTO still
+    // serializes when a response carries no plan
+    public static final FilterProvider DEFAULT_FILTERS = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+            .setFailOnUnknownId(false);
+
+    public static final TaskFieldPlan ALL = new TaskFieldPlan(EnumSet.allOf(TaskField.class));
+
+    private static final ConcurrentMap<Integer, TaskFieldPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final Set<TaskField> fields;
+    private final List<TaskField> columns;
+    private final String selectJpql;
+    private final FilterProvider filters;
+
+    private TaskFieldPlan(EnumSet<TaskField> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+        this.columns = List.copyOf(fields);
+
+        boolean joinAssignee = columns.stream().anyMatch(TaskField::isAssignee);
+        this.selectJpql = "select " + columns.stream().map(TaskField::getPath).collect(Collectors.joining(", "))
+                + " from Task t" + (joinAssignee ? " left join t.assignee a" : "");
+
+        Set<String> names = fields.stream().map(TaskField::getName).collect(Collectors.toSet());
+        // Only set on generated occurrences, which are otherwise indistinguishable by id
+        names.add("occurrenceDate");
+        // Only set on archived tasks (includeArchived)
+        names.add("archivedAt");
+        this.filters = new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names));
+    }
+
+    // Parses a comma-separated fields= value; null or blank means every field
+    public static TaskFieldPlan of(String fieldList) {
+        if (fieldList == null || fieldList.isBlank()) {
+            return ALL;
+        }
+        EnumSet<TaskField> fields = EnumSet.of(TaskField.ID);
+        List<String> unknown = new ArrayList<>();
+        for (String name : fieldList.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            TaskField field = TaskField.byName(trimmed);
+            if (field == null) {
+                unknown.add(trimmed);
+            } else {
+                fields.add(field);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new ValidationException("Unknown task fields: " + String.join(", ", unknown));
+        }
+
+        int mask = 0;
+        for (TaskField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return PLANS.computeIfAbsent(mask, key -> new TaskFieldPlan(fields));
+    }
+
+    public boolean includes(TaskField field) {
+        return fields.contains(field);
+    }
+
+    // Fields in select-list order; the first is always ID
+    public List<TaskField> getColumns() {
+        return columns;
+    }
+
+    // "select ... from Task t [left join t.assignee a]" without where/order by
+    public String getSelectJpql() {
+        return selectJpql;
+    }
+
+    public FilterProvider getFilters() {
+        return filters;
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskflow.backend.dto;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+// JSON Merge Patch (RFC 7396) body for a single task: a property that is absent keeps its
+// value, one that is null clears it. Jackson only calls the setters of properties present in
+// the document, so each setter records that its property was given.
+@Getter
+public class TaskPatchRequest {
+
+    @Getter(AccessLevel.NONE)
+    private final Set<String> present = new HashSet<>();
+
+    private String title;
+    private String description;
+    private LocalDate dueDate;
+    private String priority;
+    private Boolean completed;
+    private Long categoryId;
+    private String status;
+    private String type;
+    private Integer storyPoints;
+    private List<String> labels;
+    private List<Long> dependencies;
+    private Long assigneeId;
+    private String recurrence;
+    // Not patchable (see PUT /tasks/{id}/parent); only recorded so it can be rejected
+    private Long parentId;
+
+    public boolean has(String property) {
+        return present.contains(property);
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        present.add("title");
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        present.add("description");
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+        present.add("dueDate");
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+        present.add("priority");
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+        present.add("completed");
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+        present.add("categoryId");
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+        present.add("status");
+    }
+
+    public void setType(String type) {
+        this.type = type;
+        present.add("type");
+    }
+
+    public void setStoryPoints(Integer storyPoints) {
+        this.storyPoints = storyPoints;
+        present.add("storyPoints");
+    }
+
+    public void setLabels(List<String> labels) {
+        this.labels = labels;
+        present.add("labels");
+    }
+
+    public void setDependencies(List<Long> dependencies) {
+        this.dependencies = dependencies;
+        present.add("dependencies");
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+        present.add("assigneeId");
+    }
+
+    public void setRecurrence(String recurrence) {
+        this.recurrence = recurrence;
+        present.add("recurrence");
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+        present.add("parentId");
+    }
+}
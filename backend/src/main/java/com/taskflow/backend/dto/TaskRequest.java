@@ -21,4 +21,8 @@ public class TaskRequest {
     private List<String> labels;
     private List<Long> dependencies;
     private Long assigneeId;
+    // Creates the task as a subtask of this one; ignored on update (see PUT /tasks/{id}/parent)
+    private Long parentId;
+    // Recurrence rule, e.g. FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR (needs a due date: the series start)
+    private String recurrence;
 }
@@ -1,22 +1,42 @@
 package com.taskflow.backend.dto;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Filtered by TaskFieldPlan when the request asks for a subset of fields
+@JsonFilter(TaskFieldPlan.FILTER_ID)
 public class TaskResponseDTO {
     private Long id;
     private String title;
     private String description;
     private String status;
+    private String rank;
+    private Long parentId;
     private String priority;
     private String type;
     private Integer storyPoints;
+    private Boolean completed;
     private List<String> labels;
     private List<Long> dependencies;
     private Long assigneeId;
     private String assigneeName;
-    private String dueDate;
-    private String createdAt;
-    private String updatedAt;
+    private LocalDateTime dueDate;
+    private String recurrence;
+    // Set on occurrences of a recurring task (window listings); id is then the series id
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDate occurrenceDate;
+    // Set on archived tasks (includeArchived reads)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime archivedAt;
+    // Set by batch reads that expand categories
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long categoryId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 
     // Getters and setters
     public Long getId() { return id; }
@@ -27,12 +47,18 @@ public class TaskResponseDTO {
     public void setDescription(String description) { this.description = description; }
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
+    public String getRank() { return rank; }
+    public void setRank(String rank) { this.rank = rank; }
+    public Long getParentId() { return parentId; }
+    public void setParentId(Long parentId) { this.parentId = parentId; }
     public String getPriority() { return priority; }
     public void setPriority(String priority) { this.priority = priority; }
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
     public Integer getStoryPoints() { return storyPoints; }
     public void setStoryPoints(Integer storyPoints) { this.storyPoints = storyPoints; }
+    public Boolean getCompleted() { return completed; }
+    public void setCompleted(Boolean completed) { this.completed = completed; }
     public List<String> getLabels() { return labels; }
     public void setLabels(List<String> labels) { this.labels = labels; }
     public List<Long> getDependencies() { return dependencies; }
@@ -41,10 +67,18 @@ public class TaskResponseDTO {
     public void setAssigneeId(Long assigneeId) { this.assigneeId = assigneeId; }
     public String getAssigneeName() { return assigneeName; }
     public void setAssigneeName(String assigneeName) { this.assigneeName = assigneeName; }
-    public String getDueDate() { return dueDate; }
-    public void setDueDate(String dueDate) { this.dueDate = dueDate; }
-    public String getCreatedAt() { return createdAt; }
-    public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
-    public String getUpdatedAt() { return updatedAt; }
-    public void setUpdatedAt(String updatedAt) { this.updatedAt = updatedAt; }
+    public LocalDateTime getDueDate() { return dueDate; }
+    public void setDueDate(LocalDateTime dueDate) { this.dueDate = dueDate; }
+    public String getRecurrence() { return recurrence; }
+    public void setRecurrence(String recurrence) { this.recurrence = recurrence; }
+    public LocalDate getOccurrenceDate() { return occurrenceDate; }
+    public void setOccurrenceDate(LocalDate occurrenceDate) { this.occurrenceDate = occurrenceDate; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    public void setArchivedAt(LocalDateTime archivedAt) { this.archivedAt = archivedAt; }
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 } 
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.taskflow.backend.dto;
+
+// Totals over a task and all of its subtasks; completionPercent is by task count
+public record TaskRollupDTO(Long taskId, long descendantCount, long taskCount, long completedCount,
+                            long storyPoints, long completedStoryPoints, double completionPercent) {}
@@ -0,0 +1,23 @@
+package com.taskflow.backend.event;
+
+import java.time.LocalDateTime;
+
+import com.taskflow.backend.model.Task;
+
+// Published by TaskService for every task it creates, updates or deletes. Listeners that
+// keep derived state (reminders, caches) should use @TransactionalEventListener so they
+// only see committed changes.
+public record TaskChangedEvent(Long taskId, Long userId, LocalDateTime dueDate, boolean completed, boolean deleted) {
+
+    public static TaskChangedEvent saved(Task task) {
+        return new TaskChangedEvent(task.getId(), userId(task), task.getDueDate(), task.isCompleted(), false);
+    }
+
+    public static TaskChangedEvent deleted(Task task) {
+        return new TaskChangedEvent(task.getId(), userId(task), task.getDueDate(), task.isCompleted(), true);
+    }
+
+    private static Long userId(Task task) {
+        return task.getUser() != null ? task.getUser().getId() : null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskflow.backend.event;
+
+import java.time.LocalDateTime;
+
+// Published by TaskReminderScheduler when an incomplete task reaches its due date
+public record TaskDueEvent(Long taskId, Long userId, LocalDateTime dueDate) {
+}
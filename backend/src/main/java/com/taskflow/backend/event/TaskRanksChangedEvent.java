@@ -0,0 +1,7 @@
+package com.taskflow.backend.event;
+
+// Published by TaskBoardService when the rebalancer rewrites the rank keys of a board
+// column. Only the tasks' order changed, so it is not a TaskChangedEvent: listeners that
+// act on due dates or completion (reminders) have nothing to do.
+public record TaskRanksChangedEvent(Long userId, String status) {
+}
@@ -0,0 +1,218 @@
+package com.taskflow.backend.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.security.UserPrincipal;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Honors the Idempotency-Key header on task creation (see IdempotencyStore). Runs after
+// JwtAuthenticationFilter, since keys are per user; like RateLimitFilter it is only added
+// to the security chain, never registered with the servlet container on its own.
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> PATHS = Set.of("/api/v1/tasks", "/api/v1/tasks/bulk");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !"POST".equals(request.getMethod()) || !PATHS.contains(path) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            // Rejected by the security chain further on
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        byte[] fingerprint = fingerprint(request, body);
+        IdempotencyStore.Key key = new IdempotencyStore.Key(principal.getId(), idempotencyKey);
+        IdempotencyStore.Claim claim;
+        try {
+            claim = store.claim(key, fingerprint);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServletException(ex);
+        }
+
+        switch (claim.outcome()) {
+            case REPLAY -> {
+                IdempotencyStore.StoredResponse stored = claim.response();
+                response.setStatus(stored.status());
+                response.setHeader(REPLAYED_HEADER, "true");
+                if (stored.contentType() != null) {
+                    response.setContentType(stored.contentType());
+                }
+                if (stored.body() != null) {
+                    response.getOutputStream().write(stored.body());
+                }
+            }
+            case MISMATCH -> writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " was already used for a different request");
+            case IN_PROGRESS -> writeError(response, HttpStatus.CONFLICT,
+                    "A request with this " + HEADER + " is still in progress");
+            case OWNER -> runAndStore(new CachedBodyRequest(request, body), response, filterChain, key, fingerprint);
+        }
+    }
+
+    private void runAndStore(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                             IdempotencyStore.Key key, byte[] fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+        boolean ran = false;
+        try {
+            filterChain.doFilter(request, captured);
+            ran = true;
+        } finally {
+            if (!ran) {
+                store.release(key);
+            }
+        }
+        try {
+            // Client errors are as final as successes; server errors may go away on retry
+            if (captured.getStatus() >= 500) {
+                store.release(key);
+            } else {
+                store.complete(key, fingerprint, captured.getStatus(), captured.getContentType(),
+                        captured.getContentAsByteArray());
+            }
+        } catch (RuntimeException ex) {
+            // The request did run: its claim stays until app.idempotency.lease expires, so a
+            // retry in the meantime is not run a second time
+            logger.warn("Could not store the response for idempotency key {}", key.key(), ex);
+        } finally {
+            captured.copyBodyToResponse();
+        }
+    }
+
+    private static byte[] fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            return digest.digest(body);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    // Replays the body that was read for the fingerprint
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory: everything is available at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    if (!isAsyncStarted()) {
+                        throw new IllegalStateException("A ReadListener requires asynchronous processing");
+                    }
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskflow.backend.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+    // How long a completed request's response is replayed for its key (ms)
+    private long ttl = 86_400_000;
+    // How long a claimed key blocks retries if its request never completes, e.g. the node died (ms)
+    private long lease = 60_000;
+    // How long a duplicate waits for the original request before getting 409 (ms)
+    private long waitTimeout = 10_000;
+    // Completed responses kept in memory in front of the table
+    private int cacheSize = 10_000;
+    // Expired keys deleted per statement, every sweep-interval ms
+    private int sweepBatchSize = 1000;
+    private long sweepInterval = 600_000;
+}
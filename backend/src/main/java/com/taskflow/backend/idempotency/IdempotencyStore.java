@@ -0,0 +1,210 @@
+package com.taskflow.backend.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Idempotency keys: the first request with a (user, key) claims it in idempotency_keys and
+// runs; its response is then stored for app.idempotency.ttl and replayed to every retry.
+//
+// Duplicates on the same node wait on the original's future; duplicates on other nodes poll
+// the row until it is completed. A request that fails with a 5xx (or an exception) releases
+// its key, so a retry runs again. A claim whose request never finishes, or whose response
+// could not be stored, expires after app.idempotency.lease and can then be taken over.
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private static final long POLL_MILLIS = 50;
+
+    // Inserts the claim, or takes over an expired row; 0 rows means someone else holds the key
+    private static final String CLAIM_SQL =
+            "INSERT INTO idempotency_keys (user_id, idempotency_key, fingerprint, expires_at) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (user_id, idempotency_key) DO UPDATE SET fingerprint = excluded.fingerprint, " +
+            "status = NULL, content_type = NULL, body = NULL, expires_at = excluded.expires_at " +
+            "WHERE idempotency_keys.expires_at < ?";
+    private static final String COMPLETE_SQL =
+            "UPDATE idempotency_keys SET status = ?, content_type = ?, body = ?, expires_at = ? " +
+            "WHERE user_id = ? AND idempotency_key = ? AND status IS NULL";
+    private static final String RELEASE_SQL =
+            "DELETE FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ? AND status IS NULL";
+    private static final String FIND_SQL =
+            "SELECT fingerprint, status, content_type, body, expires_at FROM idempotency_keys " +
+            "WHERE user_id = ? AND idempotency_key = ?";
+    private static final String SWEEP_SQL =
+            "DELETE FROM idempotency_keys WHERE (user_id, idempotency_key) IN (" +
+            "SELECT user_id, idempotency_key FROM idempotency_keys WHERE expires_at < ? LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+    // Completed responses, least recently used evicted first
+    private final Cache<Key, StoredResponse> responses;
+    // Requests running on this node; completed with their response, or null when released
+    private final ConcurrentMap<Key, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter replayed;
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getTtl()))
+                .build();
+        this.replayed = Counter.builder("taskflow.idempotency.replayed")
+                .description("Requests answered with the stored response of an earlier request with the same key")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // OWNER: run the request, then complete() or release() the key. REPLAY: answer with the
+    // stored response. MISMATCH: the key was used for a different request. IN_PROGRESS: the
+    // original is still running after app.idempotency.wait-timeout.
+    public Claim claim(Key key, byte[] fingerprint) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getWaitTimeout());
+        while (true) {
+            StoredResponse cached = responses.getIfPresent(key);
+            if (cached != null && cached.expiresAt().isAfter(LocalDateTime.now())) {
+                return replay(cached, fingerprint);
+            }
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                StoredResponse response;
+                try {
+                    response = running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException ex) {
+                    return new Claim(Outcome.IN_PROGRESS, null);
+                } catch (ExecutionException ex) {
+                    response = null;
+                }
+                if (response != null) {
+                    return replay(response, fingerprint);
+                }
+                // Released: try to claim it ourselves
+                continue;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            int claimed = jdbcTemplate.update(CLAIM_SQL, key.userId(), key.key(), fingerprint,
+                    Timestamp.valueOf(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(properties.getLease()))),
+                    Timestamp.valueOf(now));
+            if (claimed > 0) {
+                return new Claim(Outcome.OWNER, null);
+            }
+            // Held by a request on another node (or completed there): local waiters retry too
+            StoredResponse stored = find(key);
+            inFlight.remove(key, mine);
+            mine.complete(stored != null && stored.status() != null ? stored : null);
+            if (stored != null && stored.status() != null) {
+                responses.put(key, stored);
+                return replay(stored, fingerprint);
+            }
+            if (stored != null && !Arrays.equals(stored.fingerprint(), fingerprint)) {
+                return new Claim(Outcome.MISMATCH, null);
+            }
+            if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS) > deadline) {
+                return new Claim(Outcome.IN_PROGRESS, null);
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+    }
+
+    // Stores the owner's response and hands it to the requests waiting for it
+    public void complete(Key key, byte[] fingerprint, int status, String contentType, byte[] body) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(properties.getTtl()));
+        StoredResponse response = new StoredResponse(fingerprint, status, contentType, body, expiresAt);
+        try {
+            jdbcTemplate.update(COMPLETE_SQL, status, contentType, body, Timestamp.valueOf(expiresAt),
+                    key.userId(), key.key());
+            responses.put(key, response);
+        } finally {
+            resolve(key, response);
+        }
+    }
+
+    // Gives the key up after a failed request, so that the next attempt runs again
+    public void release(Key key) {
+        try {
+            jdbcTemplate.update(RELEASE_SQL, key.userId(), key.key());
+        } finally {
+            resolve(key, null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.sweep-interval:600000}")
+    public void sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int swept = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(SWEEP_SQL, Timestamp.valueOf(now), properties.getSweepBatchSize());
+            swept += deleted;
+        } while (deleted == properties.getSweepBatchSize());
+        if (swept > 0) {
+            logger.debug("Swept {} expired idempotency keys", swept);
+        }
+    }
+
+    private Claim replay(StoredResponse response, byte[] fingerprint) {
+        if (!Arrays.equals(response.fingerprint(), fingerprint)) {
+            return new Claim(Outcome.MISMATCH, null);
+        }
+        replayed.increment();
+        return new Claim(Outcome.REPLAY, response);
+    }
+
+    private StoredResponse find(Key key) {
+        List<StoredResponse> rows = jdbcTemplate.query(FIND_SQL, (resultSet, row) -> {
+            Integer status = resultSet.getObject(2, Integer.class);
+            return new StoredResponse(resultSet.getBytes(1), status,
+                    resultSet.getString(3), resultSet.getBytes(4), resultSet.getTimestamp(5).toLocalDateTime());
+        }, key.userId(), key.key());
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private void resolve(Key key, StoredResponse response) {
+        CompletableFuture<StoredResponse> running = inFlight.remove(key);
+        if (running != null) {
+            running.complete(response);
+        }
+    }
+
+    public record Key(Long userId, String key) {
+    }
+
+    // status is null while the original request is still running
+    public record StoredResponse(byte[] fingerprint, Integer status, String contentType, byte[] body,
+                                 LocalDateTime expiresAt) {
+    }
+
+    public enum Outcome {
+        OWNER, REPLAY, MISMATCH, IN_PROGRESS
+    }
+
+    public record Claim(Outcome outcome, StoredResponse response) {
+    }
+}
@@ -1,9 +1,17 @@
 package com.taskflow.backend.mapper;
 
+import com.taskflow.backend.dto.TaskField;
+import com.taskflow.backend.dto.TaskFieldPlan;
 import com.taskflow.backend.dto.TaskRequest;
 import com.taskflow.backend.dto.TaskResponseDTO;
 import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskData;
+import com.taskflow.backend.model.TaskOccurrence;
+import com.taskflow.backend.model.TaskView;
 import com.taskflow.backend.model.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Component;
@@ -22,26 +30,94 @@ public class TaskMapper {
         task.setStoryPoints(request.getStoryPoints());
         task.setLabels(request.getLabels());
         task.setDependencies(request.getDependencies());
+        task.setRecurrence(request.getRecurrence());
         assigneeOpt.ifPresent(task::setAssignee);
         return task;
     }
 
     public TaskResponseDTO toResponse(Task task) {
+        return toBaseResponse(task);
+    }
+
+    // A live or archived task read through the tasks_all view
+    public TaskResponseDTO toResponse(TaskView task) {
+        TaskResponseDTO response = toBaseResponse(task);
+        response.setArchivedAt(task.getArchivedAt());
+        return response;
+    }
+
+    private TaskResponseDTO toBaseResponse(TaskData task) {
         TaskResponseDTO response = new TaskResponseDTO();
         response.setId(task.getId());
         response.setTitle(task.getTitle());
         response.setDescription(task.getDescription());
         response.setStatus(task.getStatus());
+        response.setRank(task.getRank());
+        response.setParentId(task.getParentId());
         response.setPriority(task.getPriority() != null ? task.getPriority().toString() : null);
         response.setType(task.getType());
         response.setStoryPoints(task.getStoryPoints());
+        response.setCompleted(task.isCompleted());
         response.setLabels(task.getLabels());
         response.setDependencies(task.getDependencies());
         response.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
         response.setAssigneeName(task.getAssignee() != null ? task.getAssignee().getName() : null);
-        response.setDueDate(task.getDueDate() != null ? task.getDueDate().toString() : null);
-        response.setCreatedAt(task.getCreatedAt() != null ? task.getCreatedAt().toString() : null);
-        response.setUpdatedAt(task.getUpdatedAt() != null ? task.getUpdatedAt().toString() : null);
+        response.setDueDate(task.getDueDate());
+        response.setRecurrence(task.getRecurrence());
+        response.setCreatedAt(task.getCreatedAt());
+        response.setUpdatedAt(task.getUpdatedAt());
+        return response;
+    }
+
+    // One generated occurrence of a recurring task, with the user's changes to that day if any
+    public TaskResponseDTO toOccurrenceResponse(Task series, LocalDate date, TaskOccurrence exception) {
+        TaskResponseDTO response = toResponse(series);
+        response.setOccurrenceDate(date);
+        response.setDueDate(date.atTime(series.getDueDate().toLocalTime()));
+        response.setCompleted(false);
+        if (exception != null) {
+            response.setCompleted(exception.isCompleted());
+            if (exception.getTitle() != null) {
+                response.setTitle(exception.getTitle());
+            }
+            if (exception.getDescription() != null) {
+                response.setDescription(exception.getDescription());
+            }
+            if (exception.getStatus() != null) {
+                response.setStatus(exception.getStatus());
+            }
+        }
+        return response;
+    }
+
+    // Builds a DTO from a sparse projection row; values arrive in plan.getColumns() order
+    @SuppressWarnings("unchecked")
+    public TaskResponseDTO toResponse(TaskFieldPlan plan, Object[] row) {
+        TaskResponseDTO response = new TaskResponseDTO();
+        List<TaskField> columns = plan.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = row[i];
+            switch (columns.get(i)) {
+                case ID -> response.setId((Long) value);
+                case TITLE -> response.setTitle((String) value);
+                case DESCRIPTION -> response.setDescription((String) value);
+                case STATUS -> response.setStatus((String) value);
+                case RANK -> response.setRank((String) value);
+                case PARENT_ID -> response.setParentId((Long) value);
+                case PRIORITY -> response.setPriority(value != null ? value.toString() : null);
+                case TYPE -> response.setType((String) value);
+                case STORY_POINTS -> response.setStoryPoints((Integer) value);
+                case COMPLETED -> response.setCompleted((Boolean) value);
+                case ASSIGNEE_ID -> response.setAssigneeId((Long) value);
+                case ASSIGNEE_NAME -> response.setAssigneeName((String) value);
+                case DUE_DATE -> response.setDueDate((LocalDateTime) value);
+                case RECURRENCE -> response.setRecurrence((String) value);
+                case CREATED_AT -> response.setCreatedAt((LocalDateTime) value);
+                case UPDATED_AT -> response.setUpdatedAt((LocalDateTime) value);
+                case LABELS -> response.setLabels((List<String>) value);
+                case DEPENDENCIES -> response.setDependencies((List<Long>) value);
+            }
+        }
         return response;
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.taskflow.backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+// One issued refresh token. Tokens from the same login share a familyId; each
+// rotation marks the presented token as rotated and issues a successor in the family.
+@Entity
+@Data
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_revoked_at", columnList = "revoked_at")
+})
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String jti;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    // Email of the token owner (the JWT subject)
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Set when this token was exchanged for a new one
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    @Column(name = "replaced_by", length = 36)
+    private String replacedBy;
+
+    // Set on every token of the family when the family is revoked (logout or reuse)
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+}
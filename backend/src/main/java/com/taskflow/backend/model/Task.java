@@ -3,13 +3,22 @@ package com.taskflow.backend.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+// UPDATEs list only the changed columns (PATCH, board moves), not the whole row
 @Entity
 @Data
+@DynamicUpdate
 @Table(name = "tasks")
-public class Task {
+public class Task implements TaskData {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -31,20 +40,43 @@ public class Task {
     @Column
     private String type;
 
+    // Position within the (user, status) board column, see RankKeys; null until ranked.
+    // Only changed by TaskBoardService, never taken from request bodies.
+    @Column
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String rank;
+
     @Column
     private Integer storyPoints;
 
-    @ElementCollection
-    private List<String> labels;
+    // Parent task (null for top-level tasks); the tree is mirrored in task_closure, so it is
+    // only changed through TaskHierarchyService, never taken from request bodies
+    @Column(name = "parent_id")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long parentId;
+
+    // RRULE subset (see RecurrenceRule); null for one-off tasks. The due date is the
+    // series start, occurrences are generated on read.
+    @Column
+    private String recurrence;
+
+    // varchar[] / bigint[] columns (GIN indexed); never null
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
+    private List<String> labels = new ArrayList<>();
 
-    @ElementCollection
-    private List<Long> dependencies;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
+    private List<Long> dependencies = new ArrayList<>();
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Always the authenticated user (set by TaskService); not part of the bulk request or
+    // response bodies, where it is only an unloaded reference
     @ManyToOne
     @JoinColumn(name = "user_id")
+    @JsonIgnore
     private User user;
 
     @ManyToOne
@@ -59,11 +91,22 @@ public class Task {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        emptyCollectionsForNull();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        emptyCollectionsForNull();
+    }
+
+    private void emptyCollectionsForNull() {
+        if (labels == null) {
+            labels = new ArrayList<>();
+        }
+        if (dependencies == null) {
+            dependencies = new ArrayList<>();
+        }
     }
 
     public Long getId() {
@@ -0,0 +1,43 @@
+package com.taskflow.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// The fields a live Task and a TaskView row have in common, so both map to a response the
+// same way
+public interface TaskData {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getStatus();
+
+    String getRank();
+
+    Long getParentId();
+
+    Task.Priority getPriority();
+
+    String getType();
+
+    Integer getStoryPoints();
+
+    boolean isCompleted();
+
+    List<String> getLabels();
+
+    List<Long> getDependencies();
+
+    User getAssignee();
+
+    LocalDateTime getDueDate();
+
+    String getRecurrence();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,49 @@
+package com.taskflow.backend.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+// Exception to a recurring task's generated occurrence: the one day a user completed,
+// cancelled or edited. Null title/description/status fall back to the series values.
+@Entity
+@Data
+@Table(name = "task_occurrences")
+public class TaskOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "occurrence_date", nullable = false)
+    private LocalDate occurrenceDate;
+
+    private boolean completed;
+
+    // Cancelled occurrences are left out of listings
+    private boolean cancelled;
+
+    private String title;
+    private String description;
+    private String status;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
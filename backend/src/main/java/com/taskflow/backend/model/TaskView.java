@@ -0,0 +1,72 @@
+package com.taskflow.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+// Read-only view over live and archived tasks (tasks_all), for includeArchived reads.
+// Property names match Task, so the same sort parameters work on both.
+@Entity
+@Immutable
+@Data
+@Table(name = "tasks_all")
+public class TaskView implements TaskData {
+
+    @Id
+    private Long id;
+
+    private String title;
+    private String description;
+    private LocalDateTime dueDate;
+
+    @Enumerated(EnumType.STRING)
+    private Task.Priority priority;
+
+    private boolean completed;
+    private String status;
+    private String type;
+    private String rank;
+    private Integer storyPoints;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    private String recurrence;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private List<String> labels;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private List<Long> dependencies;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    // A view has no constraints; keeps ddl-auto=update from trying to add one. Listings
+    // fetch it with the page (TaskViewRepository), single reads when it is mapped.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User assignee;
+
+    // Null for live tasks
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,117 @@
+package com.taskflow.backend.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+// Wraps every DataSource bean so statement executions are reported to SqlStatementStats.
+// Only Connection and Statement are proxied; result sets are returned untouched.
+@Component
+@ConditionalOnProperty(name = "app.sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlAccountingDataSource)) {
+            return new SqlAccountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    static final class SqlAccountingDataSource extends DelegatingDataSource {
+
+        SqlAccountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, obtainTargetDataSource().getConnection(), null);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+            return proxy(Connection.class, obtainTargetDataSource().getConnection(username, password), null);
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, String sql) {
+        return type.cast(Proxy.newProxyInstance(
+                SqlAccountingDataSourcePostProcessor.class.getClassLoader(),
+                new Class<?>[] { type },
+                new AccountingHandler(target, sql)));
+    }
+
+    private static final class AccountingHandler implements InvocationHandler {
+
+        private final Object target;
+        // SQL bound at prepare time; null for plain Statements, which pass it to execute
+        private final String preparedSql;
+
+        AccountingHandler(Object target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (target instanceof Connection) {
+                Object result = call(method, args);
+                return wrapStatement(method.getReturnType(), result, args);
+            }
+            if (name.startsWith("execute")) {
+                String sql = preparedSql != null ? preparedSql
+                        : (args != null && args.length > 0 && args[0] instanceof String s ? s : null);
+                long start = System.nanoTime();
+                try {
+                    return call(method, args);
+                } finally {
+                    SqlStatementStats.record(sql, System.nanoTime() - start);
+                }
+            }
+            return call(method, args);
+        }
+
+        private static Object wrapStatement(Class<?> returnType, Object result, Object[] args) {
+            if (result == null) {
+                return null;
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            if (returnType == CallableStatement.class) {
+                return proxy(CallableStatement.class, (CallableStatement) result, sql);
+            }
+            if (returnType == PreparedStatement.class) {
+                return proxy(PreparedStatement.class, (PreparedStatement) result, sql);
+            }
+            if (returnType == Statement.class) {
+                return proxy(Statement.class, (Statement) result, null);
+            }
+            return result;
+        }
+
+        private Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
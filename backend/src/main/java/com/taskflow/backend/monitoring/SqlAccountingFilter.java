@@ -0,0 +1,209 @@
+package com.taskflow.backend.monitoring;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+// Counts SQL statements and time per HTTP request, warns about repeated statement
+// shapes (likely N+1 loads) and, when enabled, reports the totals as response headers.
+// Runs ahead of the security chain so the JWT user lookup is included.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "app.sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlAccountingFilter.class);
+
+    private final boolean headersEnabled;
+    private final int repeatThreshold;
+
+    public SqlAccountingFilter(
+            @Value("${app.sql-accounting.headers:false}") boolean headersEnabled,
+            @Value("${app.sql-accounting.repeat-threshold:10}") int repeatThreshold) {
+        this.headersEnabled = headersEnabled;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        // Join a scope that is already open (e.g. a test asserting a query budget)
+        SqlStatementStats existing = SqlStatementStats.current();
+        SqlStatementStats stats = existing != null ? existing : SqlStatementStats.begin();
+
+        HttpServletResponse target = headersEnabled ? new SqlHeaderResponseWrapper(response, stats) : response;
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            if (target instanceof SqlHeaderResponseWrapper wrapper) {
+                wrapper.applyHeaders();
+            }
+            reportRepeats(request, stats);
+            if (existing == null) {
+                SqlStatementStats.end();
+            }
+        }
+    }
+
+    private void reportRepeats(HttpServletRequest request, SqlStatementStats stats) {
+        if (stats.getStatementCount() <= repeatThreshold) {
+            return;
+        }
+        Map<String, Integer> repeated = stats.repeatedShapes(repeatThreshold);
+        repeated.forEach((shape, count) -> logger.warn(
+                "{} {} executed the same statement {} times ({} statements, {} ms total): {}",
+                request.getMethod(), request.getRequestURI(), count,
+                stats.getStatementCount(), stats.getElapsedMillis(), shape));
+    }
+
+    // Adds the totals just before the response commits. DB work normally finishes before
+    // the body is written, so this avoids buffering the body just to set two headers.
+    private static final class SqlHeaderResponseWrapper extends HttpServletResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean applied;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        SqlHeaderResponseWrapper(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void applyHeaders() {
+            if (applied) {
+                return;
+            }
+            applied = true;
+            if (!isCommitted()) {
+                setHeader(COUNT_HEADER, Integer.toString(stats.getStatementCount()));
+                setHeader(TIME_HEADER, Long.toString(stats.getElapsedMillis()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        applyHeaders();
+                        delegate.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        applyHeaders();
+                        delegate.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        applyHeaders();
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        applyHeaders();
+                        delegate.close();
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                PrintWriter delegate = super.getWriter();
+                writer = new PrintWriter(delegate) {
+                    @Override
+                    public void write(int c) {
+                        applyHeaders();
+                        super.write(c);
+                    }
+
+                    @Override
+                    public void write(char[] buf, int off, int len) {
+                        applyHeaders();
+                        super.write(buf, off, len);
+                    }
+
+                    @Override
+                    public void write(String s, int off, int len) {
+                        applyHeaders();
+                        super.write(s, off, len);
+                    }
+
+                    @Override
+                    public void flush() {
+                        applyHeaders();
+                        super.flush();
+                    }
+                };
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            applyHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            applyHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            applyHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
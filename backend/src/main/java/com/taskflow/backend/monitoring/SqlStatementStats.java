@@ -0,0 +1,84 @@
+package com.taskflow.backend.monitoring;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Per-thread tally of the SQL statements issued while a scope is open.
+// SqlAccountingFilter opens one scope per HTTP request; tests can open their own.
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    // Hibernate renders IN (?, ?, ?) with one marker per element; fold them so
+    // different list sizes count as the same statement shape
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statementCount;
+    private long elapsedNanos;
+    // Keyed by the raw SQL text; shapes are only normalized when a report is requested
+    private final Map<String, Integer> statements = new HashMap<>();
+
+    private SqlStatementStats() {
+    }
+
+    // Start a new scope on this thread, replacing any open one
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // The open scope on this thread, or null when statements are not being counted
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void record(String sql, long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+        stats.statementCount++;
+        stats.elapsedNanos += nanos;
+        if (sql != null) {
+            stats.statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    // Statement shapes executed more than threshold times, most frequent first
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> shapes = new HashMap<>();
+        statements.forEach((sql, count) -> shapes.merge(shapeOf(sql), count, Integer::sum));
+
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() > threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    static String shapeOf(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(collapsed).replaceAll("(?)");
+    }
+}
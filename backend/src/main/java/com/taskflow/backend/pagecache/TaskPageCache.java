@@ -0,0 +1,165 @@
+package com.taskflow.backend.pagecache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.dto.PageRequest;
+import com.taskflow.backend.dto.TaskFieldPlan;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.security.UserPrincipal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Serialized first pages of GET /api/v1/tasks, per user and sort key, in a Caffeine
+// (W-TinyLFU) cache bounded by total body size. Most list traffic is the first page, and it
+// only changes when one of the user's tasks does (see TaskPageInvalidator).
+//
+// Nothing is removed on a change: every user has a stamp that is part of the key, and a
+// change bumps it, so the user's old pages are never looked up again and are the first to
+// be evicted. A page is keyed with the stamp read before it was loaded, so a load that
+// overlaps a change is filed under the old stamp and never served.
+@Component
+public class TaskPageCache {
+
+    // Users share a stamp when their ids are equal modulo this; a change then also drops the
+    // other users' pages, which costs a reload but is never stale
+    private static final int STAMPS = 4096;
+    private static final String CBOR = "cbor";
+    private static final String SMILE = "x-jackson-smile";
+
+    private final ObjectMapper objectMapper;
+    private final TaskPageCacheProperties properties;
+    private final TransactionOperations primary;
+    private final Cache<Key, byte[]> pages;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMPS);
+    // Bumped by invalidateAll(), which drops every page at once
+    private final AtomicLong epoch = new AtomicLong();
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+
+    public TaskPageCache(ObjectMapper objectMapper, TaskPageCacheProperties properties,
+                         PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        // Loaded on the primary: a replica still behind a change could otherwise put a
+        // stale page under the stamp that change produced
+        this.primary = new TransactionTemplate(transactionManager);
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxBytes())
+                .weigher((Key key, byte[] body) -> body.length)
+                .expireAfterWrite(Duration.ofMillis(properties.getExpireAfterWrite()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "task-pages");
+        Gauge.builder("taskflow.task-pages.hit-ratio", pages, cache -> cache.stats().hitRate())
+                .description("Share of first-page task list requests answered from the cache")
+                .register(meterRegistry);
+        this.localInvalidations = invalidations(meterRegistry, "local");
+        this.remoteInvalidations = invalidations(meterRegistry, "remote");
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // Only the first page of the plain listing is cached, and only for clients that take JSON
+    public boolean isCacheable(PageRequest pageRequest, String accept) {
+        return properties.isEnabled()
+                && pageRequest.getPage() == 0
+                && pageRequest.getLabels().isEmpty()
+                && pageRequest.getSearch() == null
+                && pageRequest.getFilter() == null
+                && acceptsJson(accept);
+    }
+
+    // The response body for the current user's first page, as the JSON converter would write it
+    public byte[] firstPage(PageRequest pageRequest, TaskFieldPlan plan, Supplier<Page<TaskResponseDTO>> loader) {
+        Long userId = UserPrincipal.currentId();
+        Key key = new Key(userId, epoch.get(), stamps.get(stamp(userId)), pageRequest.getSize(),
+                pageRequest.getSort(), pageRequest.getDirection().toLowerCase(Locale.ROOT), plan);
+        byte[] body = pages.getIfPresent(key);
+        if (body == null) {
+            body = serialize(primary.execute(status -> loader.get()), plan);
+            pages.put(key, body);
+        }
+        return body;
+    }
+
+    // A change made on this node
+    public void invalidate(Long userId) {
+        stamps.incrementAndGet(stamp(userId));
+        localInvalidations.increment();
+    }
+
+    // A change made on another node
+    public void invalidateRemote(Long userId) {
+        stamps.incrementAndGet(stamp(userId));
+        remoteInvalidations.increment();
+    }
+
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    private byte[] serialize(Page<TaskResponseDTO> page, TaskFieldPlan plan) {
+        ObjectWriter writer = plan == TaskFieldPlan.ALL ? objectMapper.writer() : objectMapper.writer(plan.getFilters());
+        try {
+            return writer.writeValueAsBytes(ApiResponse.success(page));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize task page", ex);
+        }
+    }
+
+    // No Accept header, or one that allows JSON and does not ask for a binary encoding
+    private static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+        return types.stream().noneMatch(type -> CBOR.equals(type.getSubtype()) || SMILE.equals(type.getSubtype()))
+                && types.stream().anyMatch(type -> type.includes(MediaType.APPLICATION_JSON));
+    }
+
+    private static int stamp(Long userId) {
+        return (int) Math.floorMod(userId, (long) STAMPS);
+    }
+
+    private static Counter invalidations(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("taskflow.task-pages.invalidations")
+                .description("Task changes that invalidated a user's cached pages, by where the change was made")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    // plan is interned per field set (TaskFieldPlan.of), so identity equality is enough
+    private record Key(Long userId, long epoch, long stamp, int size, String sort, String direction,
+                       TaskFieldPlan plan) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.taskflow.backend.pagecache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.task-page-cache")
+public class TaskPageCacheProperties {
+
+    private boolean enabled = true;
+    // Total size of the cached response bodies (bytes)
+    private long maxBytes = 64L * 1024 * 1024;
+    // Upper bound on a page's age (ms); covers changes that publish no task event, such as a
+    // renamed category, and notifications missed while the listener reconnects
+    private long expireAfterWrite = 300_000;
+    // Pause before the LISTEN connection is opened again after it failed (ms)
+    private long reconnectDelay = 5_000;
+}
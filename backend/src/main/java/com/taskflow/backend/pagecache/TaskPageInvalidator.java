@@ -0,0 +1,188 @@
+package com.taskflow.backend.pagecache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskflow.backend.event.TaskChangedEvent;
+import com.taskflow.backend.event.TaskRanksChangedEvent;
+import com.taskflow.backend.service.TaskHierarchyService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Invalidates a user's cached task pages and subtree rollups on every node when one of their
+// tasks changes, or the rebalancer re-ranks one of their board columns.
+// The changing transaction sends NOTIFY task_pages, '<node>:<userId>', which PostgreSQL
+// only delivers (to the other nodes' LISTEN connections) if it commits; this node
+// invalidates its own pages after the commit. A node cannot tell what it missed while its
+// LISTEN connection was down, so it drops all of its pages and rollups whenever it
+// (re)connects.
+@Component
+public class TaskPageInvalidator {
+
+    private static final String CHANNEL = "task_pages";
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskPageInvalidator.class);
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    // How long a poll for notifications blocks; bounds how long shutdown waits for the thread
+    private static final int POLL_MILLIS = 1000;
+    // Transaction resource: the users already notified by the current transaction
+    private static final Object NOTIFIED_USERS = new Object();
+
+    private final TaskPageCache cache;
+    private final TaskHierarchyService taskHierarchyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final TaskPageCacheProperties properties;
+    // Tells this node's own notifications apart from the other nodes'
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private Thread listener;
+
+    public TaskPageInvalidator(TaskPageCache cache, TaskHierarchyService taskHierarchyService,
+                               JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+                               TaskPageCacheProperties properties) {
+        this.cache = cache;
+        this.taskHierarchyService = taskHierarchyService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void notifyOtherNodes(TaskChangedEvent event) {
+        notifyOnce(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void notifyOtherNodes(TaskRanksChangedEvent event) {
+        notifyOnce(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.userId() != null) {
+            cache.invalidate(event.userId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskRanksChanged(TaskRanksChangedEvent event) {
+        cache.invalidate(event.userId());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "task-page-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (listener != null) {
+            listener.join(2L * POLL_MILLIS);
+        }
+    }
+
+    // A connection of its own, outside the pool: it is held for the node's lifetime, and
+    // always to the primary, where the NOTIFYs are sent
+    private void listen() {
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                cache.invalidateAll();
+                taskHierarchyService.evictAll();
+                PGConnection pgConnection = listening.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Task page LISTEN connection failed; reconnecting in {} ms",
+                        properties.getReconnectDelay(), ex);
+                try {
+                    Thread.sleep(properties.getReconnectDelay());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        int separator = payload.lastIndexOf(':');
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        Long userId;
+        try {
+            userId = Long.valueOf(payload.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            logger.warn("Ignoring malformed {} notification: {}", CHANNEL, payload);
+            return;
+        }
+        cache.invalidateRemote(userId);
+        taskHierarchyService.evictRemote(userId);
+    }
+
+    // Sent once per user per transaction, however many of their tasks it changed
+    private void notifyOnce(Long userId) {
+        if (properties.isEnabled() && userId != null && firstInTransaction(userId)) {
+            jdbcTemplate.queryForList(NOTIFY_SQL, CHANNEL, nodeId + ":" + userId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean firstInTransaction(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return true;
+        }
+        Set<Long> notified = (Set<Long>) TransactionSynchronizationManager.getResource(NOTIFIED_USERS);
+        if (notified == null) {
+            notified = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(NOTIFIED_USERS, notified);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(NOTIFIED_USERS);
+                }
+            });
+        }
+        return notified.add(userId);
+    }
+}
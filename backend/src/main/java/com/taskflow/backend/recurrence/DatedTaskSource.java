@@ -0,0 +1,29 @@
+package com.taskflow.backend.recurrence;
+
+// Stored (non-recurring) tasks of a window, already ordered by due day and id
+public final class DatedTaskSource implements OccurrenceSource {
+
+    private final long[] taskIds;
+    private final long[] days;
+    private int position = -1;
+
+    public DatedTaskSource(long[] taskIds, long[] days) {
+        this.taskIds = taskIds;
+        this.days = days;
+    }
+
+    @Override
+    public long next() {
+        return ++position < days.length ? days[position] : END;
+    }
+
+    @Override
+    public long taskId() {
+        return taskIds[position];
+    }
+
+    @Override
+    public boolean isRecurring() {
+        return false;
+    }
+}
@@ -0,0 +1,161 @@
+package com.taskflow.backend.recurrence;
+
+import java.time.LocalDate;
+
+// Generates the occurrences of one series as epoch days, in order. State is a handful of
+// primitives; a period (day, week, month or year) is turned into a bit set of candidate
+// days and consumed bit by bit, so the only allocation is one LocalDate per monthly or
+// yearly period.
+public final class OccurrenceCursor implements OccurrenceSource {
+
+    private static final long[] NONE = new long[0];
+
+    private final RecurrenceRule rule;
+    private final long taskId;
+    private final long anchor;
+    private final long last;
+    // Anchor-relative period origins
+    private final long anchorWeekStart;
+    private final long anchorMonthIndex;
+    private final int anchorYear;
+    private final int anchorMonth;
+    private final int anchorDayOfMonth;
+
+    // Occurrences still allowed by COUNT; -1 = unbounded
+    private int remaining;
+    private long period = -1;
+    private long periodStart;
+    private int candidates;
+    private long floor = Long.MIN_VALUE;
+    private long[] excluded = NONE;
+    private int excludedIndex;
+    private boolean finished;
+
+    OccurrenceCursor(RecurrenceRule rule, long taskId, long anchor, long last) {
+        this.rule = rule;
+        this.taskId = taskId;
+        this.anchor = anchor;
+        this.last = last;
+        LocalDate anchorDate = LocalDate.ofEpochDay(anchor);
+        this.anchorWeekStart = anchor - RecurrenceRule.weekdayOf(anchor);
+        this.anchorYear = anchorDate.getYear();
+        this.anchorMonth = anchorDate.getMonthValue();
+        this.anchorDayOfMonth = anchorDate.getDayOfMonth();
+        this.anchorMonthIndex = anchorYear * 12L + anchorMonth - 1;
+        this.remaining = rule.getCount() > 0 ? rule.getCount() : -1;
+    }
+
+    // Days to skip (cancelled occurrences), sorted ascending. They still count towards COUNT.
+    public OccurrenceCursor excluding(long[] sortedDays) {
+        this.excluded = sortedDays;
+        return this;
+    }
+
+    // Skips to the first occurrence on or after day. Without COUNT this jumps straight to
+    // the right period; with COUNT the earlier occurrences have to be counted.
+    public OccurrenceCursor seek(long day) {
+        floor = Math.max(floor, day);
+        if (remaining < 0 && day > anchor) {
+            long target = periodContaining(day);
+            if (target - 1 > period) {
+                period = target - 1;
+                candidates = 0;
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public long next() {
+        while (!finished) {
+            while (candidates == 0) {
+                if (!loadPeriod(period + 1)) {
+                    return finish();
+                }
+            }
+            int bit = Integer.numberOfTrailingZeros(candidates);
+            candidates &= candidates - 1;
+            long day = periodStart + bit;
+            if (day < anchor) {
+                continue;
+            }
+            if (day > last || remaining == 0) {
+                return finish();
+            }
+            if (remaining > 0) {
+                remaining--;
+            }
+            if (day >= floor && !isExcluded(day)) {
+                return day;
+            }
+        }
+        return END;
+    }
+
+    @Override
+    public long taskId() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isRecurring() {
+        return true;
+    }
+
+    private long finish() {
+        finished = true;
+        candidates = 0;
+        return END;
+    }
+
+    // False once the period starts after the last allowed day
+    private boolean loadPeriod(long next) {
+        period = next;
+        long step = next * rule.getInterval();
+        switch (rule.getFrequency()) {
+            case DAILY -> {
+                periodStart = anchor + step;
+                int weekdays = rule.getWeekdays();
+                candidates = weekdays == 0 || (weekdays & (1 << RecurrenceRule.weekdayOf(periodStart))) != 0 ? 1 : 0;
+            }
+            case WEEKLY -> {
+                periodStart = anchorWeekStart + 7 * step;
+                int weekdays = rule.getWeekdays();
+                candidates = weekdays != 0 ? weekdays : 1 << RecurrenceRule.weekdayOf(anchor);
+            }
+            case MONTHLY -> {
+                long monthIndex = anchorMonthIndex + step;
+                LocalDate first = LocalDate.of((int) Math.floorDiv(monthIndex, 12), (int) Math.floorMod(monthIndex, 12) + 1, 1);
+                periodStart = first.toEpochDay();
+                candidates = rule.monthMask(RecurrenceRule.weekdayOf(periodStart), first.lengthOfMonth(), anchorDayOfMonth);
+            }
+            case YEARLY -> {
+                LocalDate first = LocalDate.of((int) (anchorYear + step), anchorMonth, 1);
+                periodStart = first.toEpochDay();
+                candidates = anchorDayOfMonth <= first.lengthOfMonth() ? 1 << (anchorDayOfMonth - 1) : 0;
+            }
+        }
+        return periodStart <= last;
+    }
+
+    // Index of the period that contains day, or the one before it when day falls between periods
+    private long periodContaining(long day) {
+        int interval = rule.getInterval();
+        return switch (rule.getFrequency()) {
+            case DAILY -> Math.floorDiv(day - anchor, interval);
+            case WEEKLY -> Math.floorDiv(Math.floorDiv(day - anchorWeekStart, 7), interval);
+            case MONTHLY -> {
+                LocalDate date = LocalDate.ofEpochDay(day);
+                yield Math.floorDiv(date.getYear() * 12L + date.getMonthValue() - 1 - anchorMonthIndex, interval);
+            }
+            case YEARLY -> Math.floorDiv(LocalDate.ofEpochDay(day).getYear() - anchorYear, interval);
+        };
+    }
+
+    private boolean isExcluded(long day) {
+        while (excludedIndex < excluded.length && excluded[excludedIndex] < day) {
+            excludedIndex++;
+        }
+        return excludedIndex < excluded.length && excluded[excludedIndex] == day;
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskflow.backend.recurrence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// K-way merge of occurrence sources by (day, task id). The heap holds one head per source,
+// so memory is O(sources) however long the window is; only the requested page is
+// collected and the rest of the window is just counted for the total.
+public final class OccurrenceMerge {
+
+    public record Slot(long taskId, long epochDay, boolean recurring) {
+    }
+
+    public record Window(List<Slot> slots, long total) {
+    }
+
+    private final OccurrenceSource[] sources;
+    private final long[] days;
+    private final long[] taskIds;
+    private final int[] heap;
+    private int size;
+
+    private OccurrenceMerge(List<? extends OccurrenceSource> sourceList) {
+        int count = sourceList.size();
+        this.sources = sourceList.toArray(new OccurrenceSource[0]);
+        this.days = new long[count];
+        this.taskIds = new long[count];
+        this.heap = new int[count];
+        for (int source = 0; source < count; source++) {
+            if (advance(source)) {
+                heap[size] = source;
+                siftUp(size++);
+            }
+        }
+    }
+
+    // Slots [offset, offset + limit) of the merged sources, plus the total number of slots
+    public static Window page(List<? extends OccurrenceSource> sources, long offset, int limit) {
+        OccurrenceMerge merge = new OccurrenceMerge(sources);
+        List<Slot> slots = new ArrayList<>(Math.max(0, limit));
+        long position = 0;
+        while (merge.size > 0) {
+            int source = merge.heap[0];
+            if (position >= offset && slots.size() < limit) {
+                slots.add(new Slot(merge.taskIds[source], merge.days[source], merge.sources[source].isRecurring()));
+            }
+            position++;
+            if (merge.advance(source)) {
+                merge.siftDown(0);
+            } else {
+                merge.heap[0] = merge.heap[--merge.size];
+                merge.siftDown(0);
+            }
+        }
+        return new Window(slots, position);
+    }
+
+    private boolean advance(int source) {
+        long day = sources[source].next();
+        if (day == OccurrenceSource.END) {
+            return false;
+        }
+        days[source] = day;
+        taskIds[source] = sources[source].taskId();
+        return true;
+    }
+
+    private boolean less(int a, int b) {
+        return days[a] != days[b] ? days[a] < days[b] : taskIds[a] < taskIds[b];
+    }
+
+    private void siftUp(int index) {
+        int source = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(source, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = source;
+    }
+
+    private void siftDown(int index) {
+        if (size == 0) {
+            return;
+        }
+        int source = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!less(heap[child], source)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = source;
+    }
+}
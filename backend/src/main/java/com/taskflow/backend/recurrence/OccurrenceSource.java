@@ -0,0 +1,16 @@
+package com.taskflow.backend.recurrence;
+
+// Ascending stream of (epoch day, task id) pairs, pulled one at a time without allocating
+public interface OccurrenceSource {
+
+    long END = Long.MAX_VALUE;
+
+    // Next epoch day, or END when exhausted
+    long next();
+
+    // Task of the day last returned by next()
+    long taskId();
+
+    // True when the days are generated occurrences of a series rather than stored due dates
+    boolean isRecurring();
+}
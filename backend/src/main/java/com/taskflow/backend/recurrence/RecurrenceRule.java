@@ -0,0 +1,284 @@
+package com.taskflow.backend.recurrence;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import com.taskflow.backend.exception.ValidationException;
+
+// Parsed recurrence rule: the subset of iCalendar RRULE (RFC 5545) that task series need.
+//
+//   FREQ=DAILY|WEEKLY|MONTHLY|YEARLY   required
+//   INTERVAL=n                         every n-th period (default 1)
+//   BYDAY=MO,TU,...                    DAILY/WEEKLY: these weekdays
+//   BYDAY=1MO,-1FR,MO                  MONTHLY: n-th (negative: from the end) or every such weekday
+//   BYMONTHDAY=1,15,-1                 MONTHLY: these days of the month
+//   COUNT=n | UNTIL=yyyyMMdd           end of the series (inclusive)
+//
+// "Every weekday" is FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR and "first Monday of the month" is
+// FREQ=MONTHLY;BYDAY=1MO. The series starts at the task's due date, which is its first
+// occurrence when it matches the rule. Without BY* parts the due date's weekday / day of
+// month is repeated.
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY, YEARLY }
+
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_INTERVAL = 1000;
+
+    private final Frequency frequency;
+    private final int interval;
+    // DAILY/WEEKLY BYDAY as a bit set, bit 0 = Monday; 0 = not given
+    private final int weekdays;
+    // MONTHLY BYDAY entries: ordinal (0 = every) and weekday (0 = Monday), in parallel
+    private final int[] ordinals;
+    private final int[] ordinalWeekdays;
+    private final int[] monthDays;
+    // 0 = unbounded
+    private final int count;
+    // Inclusive epoch day, Long.MAX_VALUE = unbounded
+    private final long until;
+
+    private RecurrenceRule(Frequency frequency, int interval, int weekdays, int[] ordinals, int[] ordinalWeekdays,
+                           int[] monthDays, int count, long until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.weekdays = weekdays;
+        this.ordinals = ordinals;
+        this.ordinalWeekdays = ordinalWeekdays;
+        this.monthDays = monthDays;
+        this.count = count;
+        this.until = until;
+    }
+
+    public static RecurrenceRule parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw invalid(text, "empty");
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        String byDay = null;
+        String byMonthDay = null;
+        int count = 0;
+        long until = Long.MAX_VALUE;
+
+        String rule = text.trim().toUpperCase(Locale.ROOT);
+        if (rule.startsWith("RRULE:")) {
+            rule = rule.substring("RRULE:".length());
+        }
+        for (String part : rule.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq < 1) {
+                throw invalid(text, "expected NAME=VALUE, got " + part);
+            }
+            String value = part.substring(eq + 1);
+            switch (part.substring(0, eq)) {
+                case "FREQ" -> frequency = parseFrequency(text, value);
+                case "INTERVAL" -> interval = parseInt(text, "INTERVAL", value, 1, MAX_INTERVAL);
+                case "BYDAY" -> byDay = value;
+                case "BYMONTHDAY" -> byMonthDay = value;
+                case "COUNT" -> count = parseInt(text, "COUNT", value, 1, Integer.MAX_VALUE);
+                case "UNTIL" -> until = parseUntil(text, value);
+                default -> throw invalid(text, "unsupported part " + part.substring(0, eq));
+            }
+        }
+        if (frequency == null) {
+            throw invalid(text, "FREQ is required");
+        }
+        if (count > 0 && until != Long.MAX_VALUE) {
+            throw invalid(text, "COUNT and UNTIL cannot both be set");
+        }
+        if (byMonthDay != null && frequency != Frequency.MONTHLY) {
+            throw invalid(text, "BYMONTHDAY needs FREQ=MONTHLY");
+        }
+        if (byMonthDay != null && byDay != null) {
+            throw invalid(text, "BYDAY and BYMONTHDAY cannot be combined");
+        }
+        if (byDay != null && frequency == Frequency.YEARLY) {
+            throw invalid(text, "BYDAY is not supported with FREQ=YEARLY");
+        }
+
+        int weekdays = 0;
+        List<int[]> ordinalDays = new ArrayList<>();
+        if (byDay != null) {
+            for (String day : byDay.split(",")) {
+                int weekday = weekday(text, day);
+                String ordinal = day.substring(0, day.length() - 2);
+                if (frequency == Frequency.MONTHLY) {
+                    int n = ordinal.isEmpty() ? 0 : parseInt(text, "BYDAY", ordinal, -5, 5);
+                    if (!ordinal.isEmpty() && n == 0) {
+                        throw invalid(text, "BYDAY ordinal cannot be 0");
+                    }
+                    ordinalDays.add(new int[] {n, weekday});
+                } else if (!ordinal.isEmpty()) {
+                    throw invalid(text, "BYDAY ordinals need FREQ=MONTHLY");
+                } else {
+                    weekdays |= 1 << weekday;
+                }
+            }
+        }
+        int[] monthDays = new int[0];
+        if (byMonthDay != null) {
+            monthDays = Arrays.stream(byMonthDay.split(","))
+                    .mapToInt(day -> parseInt(text, "BYMONTHDAY", day, -31, 31))
+                    .toArray();
+            if (Arrays.stream(monthDays).anyMatch(day -> day == 0)) {
+                throw invalid(text, "BYMONTHDAY cannot be 0");
+            }
+        }
+        return new RecurrenceRule(frequency, interval, weekdays,
+                ordinalDays.stream().mapToInt(entry -> entry[0]).toArray(),
+                ordinalDays.stream().mapToInt(entry -> entry[1]).toArray(),
+                monthDays, count, until);
+    }
+
+    // Occurrences of the series starting at anchor that fall on or before last (inclusive)
+    public OccurrenceCursor cursor(long taskId, LocalDate anchor, LocalDate last) {
+        return new OccurrenceCursor(this, taskId, anchor.toEpochDay(), Math.min(last.toEpochDay(), until));
+    }
+
+    public boolean isOccurrence(LocalDate anchor, LocalDate date) {
+        OccurrenceCursor cursor = cursor(0, anchor, date);
+        cursor.seek(date.toEpochDay());
+        return cursor.next() == date.toEpochDay();
+    }
+
+    Frequency getFrequency() {
+        return frequency;
+    }
+
+    int getInterval() {
+        return interval;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    // Days of one week (bit 0 = Monday) for WEEKLY, or the weekday filter for DAILY (0 = none)
+    int getWeekdays() {
+        return weekdays;
+    }
+
+    // Days of a month as a bit set (bit 0 = the 1st)
+    int monthMask(int firstWeekday, int length, int anchorDayOfMonth) {
+        int mask = 0;
+        if (monthDays.length > 0) {
+            for (int day : monthDays) {
+                int index = day > 0 ? day - 1 : length + day;
+                if (index >= 0 && index < length) {
+                    mask |= 1 << index;
+                }
+            }
+        } else if (ordinals.length > 0) {
+            for (int i = 0; i < ordinals.length; i++) {
+                int first = Math.floorMod(ordinalWeekdays[i] - firstWeekday, 7);
+                int n = ordinals[i];
+                if (n == 0) {
+                    for (int index = first; index < length; index += 7) {
+                        mask |= 1 << index;
+                    }
+                    continue;
+                }
+                int index = n > 0
+                        ? first + 7 * (n - 1)
+                        : first + 7 * ((length - 1 - first) / 7) + 7 * (n + 1);
+                if (index >= 0 && index < length) {
+                    mask |= 1 << index;
+                }
+            }
+        } else if (anchorDayOfMonth <= length) {
+            mask = 1 << (anchorDayOfMonth - 1);
+        }
+        return mask;
+    }
+
+    // Canonical form, as stored on the task
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("FREQ=").append(frequency);
+        if (interval > 1) {
+            text.append(";INTERVAL=").append(interval);
+        }
+        List<String> days = new ArrayList<>();
+        for (int weekday = 0; weekday < 7; weekday++) {
+            if ((weekdays & (1 << weekday)) != 0) {
+                days.add(DAY_CODES[weekday]);
+            }
+        }
+        for (int i = 0; i < ordinals.length; i++) {
+            days.add((ordinals[i] != 0 ? String.valueOf(ordinals[i]) : "") + DAY_CODES[ordinalWeekdays[i]]);
+        }
+        if (!days.isEmpty()) {
+            text.append(";BYDAY=").append(String.join(",", days));
+        }
+        if (monthDays.length > 0) {
+            text.append(";BYMONTHDAY=").append(Arrays.stream(monthDays)
+                    .mapToObj(String::valueOf).collect(Collectors.joining(",")));
+        }
+        if (count > 0) {
+            text.append(";COUNT=").append(count);
+        }
+        if (until != Long.MAX_VALUE) {
+            text.append(";UNTIL=").append(UNTIL_FORMAT.format(LocalDate.ofEpochDay(until)));
+        }
+        return text.toString();
+    }
+
+    // Monday = 0 (1970-01-01 was a Thursday), matching DAY_CODES
+    static int weekdayOf(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7);
+    }
+
+    private static Frequency parseFrequency(String text, String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw invalid(text, "unsupported FREQ " + value);
+        }
+    }
+
+    private static int weekday(String text, String day) {
+        if (day.length() >= 2) {
+            String code = day.substring(day.length() - 2);
+            for (int weekday = 0; weekday < DAY_CODES.length; weekday++) {
+                if (DAY_CODES[weekday].equals(code)) {
+                    return weekday;
+                }
+            }
+        }
+        throw invalid(text, "unknown BYDAY value " + day);
+    }
+
+    private static int parseInt(String text, String name, String value, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value.startsWith("+") ? value.substring(1) : value);
+            if (parsed >= min && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw invalid(text, name + " must be between " + min + " and " + max);
+    }
+
+    // yyyyMMdd, optionally with an RFC 5545 time part, or yyyy-MM-dd
+    private static long parseUntil(String text, String value) {
+        String date = value.contains("T") ? value.substring(0, value.indexOf('T')) : value;
+        try {
+            return (date.contains("-") ? LocalDate.parse(date) : LocalDate.parse(date, UNTIL_FORMAT)).toEpochDay();
+        } catch (DateTimeParseException e) {
+            throw invalid(text, "UNTIL must be a date");
+        }
+    }
+
+    private static ValidationException invalid(String text, String reason) {
+        return new ValidationException("Invalid recurrence rule '" + text + "': " + reason);
+    }
+}
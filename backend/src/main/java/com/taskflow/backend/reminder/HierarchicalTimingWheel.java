@@ -0,0 +1,190 @@
+package com.taskflow.backend.reminder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Hierarchical timing wheel (Varghese & Lauck): levels of 2^bits slots, where each slot
+// of level n spans one full revolution of level n - 1. An entry sits in the level of the
+// highest tick digit in which its deadline differs from the current tick, so schedule()
+// and cancel() are O(1) regardless of how many entries are pending. When the clock
+// reaches a higher-level slot its entries cascade down; each entry moves at most once
+// per level. Deadlines past the top level wait in an overflow list that is re-sorted
+// once per full revolution.
+//
+// Not thread-safe: callers serialize access (see TaskReminderScheduler).
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final Bucket<K>[][] levels;
+    private final Bucket<K> overflow = new Bucket<>();
+    // Entries scheduled at or before the current tick; they fire on the next advance
+    private final Bucket<K> due = new Bucket<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int bits, int levelCount, long startMillis) {
+        if (tickMillis < 1 || bits < 1 || levelCount < 1 || (long) bits * levelCount >= 62) {
+            throw new IllegalArgumentException("Invalid timing wheel shape");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.levels = new Bucket[levelCount][1 << bits];
+        for (Bucket<K>[] level : levels) {
+            for (int slot = 0; slot < level.length; slot++) {
+                level[slot] = new Bucket<>();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    // Schedules key at deadlineMillis, replacing any pending deadline for the same key.
+    // Entries fire on the first tick boundary at or after their deadline.
+    public void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        Entry<K> entry = new Entry<>(key, -Math.floorDiv(-deadlineMillis, tickMillis));
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    public boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.unlink();
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Moves the clock forward to nowMillis one tick at a time, passing every key whose
+    // deadline has been reached to onExpired. Expired keys are no longer scheduled.
+    public void advanceTo(long nowMillis, Consumer<K> onExpired) {
+        expire(due, onExpired);
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Cascade every level whose digit just changed, highest first, so entries
+            // drop all the way down before the level 0 slot is expired
+            int changed = 0;
+            while (changed + 1 < levels.length && digit(currentTick, changed) == 0) {
+                changed++;
+            }
+            if (changed + 1 == levels.length && digit(currentTick, changed) == 0) {
+                cascade(overflow);
+            }
+            for (int level = changed; level > 0; level--) {
+                cascade(levels[level][digit(currentTick, level)]);
+            }
+            expire(levels[0][digit(currentTick, 0)], onExpired);
+            expire(due, onExpired);
+        }
+    }
+
+    private void place(Entry<K> entry) {
+        if (entry.tick <= currentTick) {
+            due.add(entry);
+            return;
+        }
+        int level = 63 - Long.numberOfLeadingZeros(entry.tick ^ currentTick);
+        level /= bits;
+        if (level >= levels.length) {
+            overflow.add(entry);
+        } else {
+            levels[level][digit(entry.tick, level)].add(entry);
+        }
+    }
+
+    private void cascade(Bucket<K> bucket) {
+        Entry<K> entry = bucket.detachAll();
+        while (entry != null) {
+            Entry<K> next = entry.next;
+            entry.prev = entry.next = null;
+            place(entry);
+            entry = next;
+        }
+    }
+
+    private void expire(Bucket<K> bucket, Consumer<K> onExpired) {
+        Entry<K> entry = bucket.detachAll();
+        while (entry != null) {
+            Entry<K> next = entry.next;
+            entry.prev = entry.next = null;
+            // The callback may cancel or reschedule keys further down this chain
+            if (entries.remove(entry.key, entry)) {
+                onExpired.accept(entry.key);
+            }
+            entry = next;
+        }
+    }
+
+    private int digit(long tick, int level) {
+        return (int) (tick >>> (level * bits)) & mask;
+    }
+
+    // Intrusive doubly linked list: unlinking needs only the entry itself
+    private static final class Bucket<K> {
+
+        private Entry<K> head;
+
+        void add(Entry<K> entry) {
+            entry.bucket = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        Entry<K> detachAll() {
+            Entry<K> first = head;
+            head = null;
+            for (Entry<K> entry = first; entry != null; entry = entry.next) {
+                entry.bucket = null;
+            }
+            return first;
+        }
+    }
+
+    private static final class Entry<K> {
+
+        private final K key;
+        private final long tick;
+        private Bucket<K> bucket;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        Entry(K key, long tick) {
+            this.key = key;
+            this.tick = tick;
+        }
+
+        void unlink() {
+            if (bucket == null) {
+                return;
+            }
+            if (prev != null) {
+                prev.next = next;
+            } else {
+                bucket.head = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            bucket = null;
+            prev = next = null;
+        }
+    }
+}
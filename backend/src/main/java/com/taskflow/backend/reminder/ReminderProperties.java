@@ -0,0 +1,23 @@
+package com.taskflow.backend.reminder;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.reminders")
+public class ReminderProperties {
+
+    private boolean enabled = true;
+    // Resolution of due notifications (ms)
+    private long tick = 1000;
+    // How far ahead incomplete tasks are loaded into memory (ms)
+    private long lookahead = 3_600_000;
+    // How often the window is extended and changes made on other nodes are picked up (ms)
+    private long loadInterval = 60_000;
+    // Nodes split users by user_id mod shard-count; each node handles one shard-index
+    private int shardCount = 1;
+    private int shardIndex = 0;
+}
@@ -0,0 +1,224 @@
+package com.taskflow.backend.reminder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.backend.event.TaskChangedEvent;
+import com.taskflow.backend.event.TaskDueEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Publishes a TaskDueEvent when an incomplete task reaches its due date.
+// Only tasks due within the lookahead window are held, in a timing wheel keyed by task id.
+// Each load extends the window and re-reads tasks changed on other nodes since the last one;
+// changes made on this node arrive through TaskChangedEvent.
+// Expiring ids are re-checked in the database before anything is published.
+// With app.reminders.shard-count > 1 a node only handles user_id mod shard-count = shard-index.
+@Component
+@ConditionalOnProperty(name = "app.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskReminderScheduler.class);
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_LEVELS = 4;
+    private static final int FETCH_SIZE = 1000;
+    private static final int VERIFY_BATCH_SIZE = 1000;
+
+    // Extends the window: tasks due in [from, until). The completed = false predicate lets
+    // the planner use the partial index idx_tasks_due_open.
+    private static final String LOAD_WINDOW_SQL =
+            "SELECT id, due_date FROM tasks " +
+            "WHERE completed = false AND due_date >= ? AND due_date < ? AND mod(user_id, ?) = ?";
+
+    // Tasks in the already loaded window changed since the last load (idx_tasks_updated_open)
+    private static final String LOAD_CHANGED_SQL =
+            "SELECT id, due_date FROM tasks " +
+            "WHERE completed = false AND updated_at >= ? AND due_date >= ? AND due_date < ? AND mod(user_id, ?) = ?";
+
+    private static final String VERIFY_SQL =
+            "SELECT id, user_id, due_date FROM tasks WHERE id = any(?) AND completed = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReminderProperties properties;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Counter fired;
+
+    // Guarded by wheel
+    private long loadedUntil;
+    private long lastLoadStarted;
+
+    public TaskReminderScheduler(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher, ReminderProperties properties,
+                                 MeterRegistry meterRegistry) {
+        if (properties.getLookahead() <= properties.getLoadInterval() || properties.getShardCount() < 1
+                || properties.getShardIndex() < 0 || properties.getShardIndex() >= properties.getShardCount()) {
+            throw new IllegalStateException("Invalid reminder settings: " + properties);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+
+        long now = System.currentTimeMillis();
+        this.wheel = new HierarchicalTimingWheel<>(properties.getTick(), WHEEL_BITS, WHEEL_LEVELS, now);
+        this.loadedUntil = now;
+        this.lastLoadStarted = now;
+
+        this.fired = Counter.builder("taskflow.reminders.fired")
+                .description("Task due events published")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.reminders.scheduled", this, TaskReminderScheduler::scheduledCount)
+                .description("Tasks waiting in the reminder timing wheel")
+                .register(meterRegistry);
+    }
+
+    public int scheduledCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.load-interval:60000}")
+    public void loadWindow() {
+        long started = System.currentTimeMillis();
+        long previousUntil;
+        long changedSince;
+        synchronized (wheel) {
+            previousUntil = loadedUntil;
+            changedSince = lastLoadStarted;
+        }
+        // Starts at the previous window's end when loading fell behind, so nothing is skipped
+        long from = Math.min(previousUntil, started);
+        long until = started + properties.getLookahead();
+
+        int[] loaded = {0};
+        RowCallbackHandler schedule = resultSet -> {
+            long taskId = resultSet.getLong(1);
+            long dueAt = toMillis(resultSet.getObject(2, LocalDateTime.class));
+            synchronized (wheel) {
+                wheel.schedule(taskId, dueAt);
+            }
+            loaded[0]++;
+        };
+        readOnlyTransaction.executeWithoutResult(status -> {
+            // Margin for clock differences between nodes and commit delays
+            query(LOAD_CHANGED_SQL, schedule, timestamp(changedSince - properties.getLoadInterval()),
+                    timestamp(started), timestamp(previousUntil));
+            query(LOAD_WINDOW_SQL, schedule, timestamp(from), timestamp(until));
+        });
+
+        synchronized (wheel) {
+            loadedUntil = Math.max(loadedUntil, until);
+            lastLoadStarted = started;
+        }
+        logger.debug("Loaded {} task due dates up to {} in {} ms", loaded[0], Instant.ofEpochMilli(until),
+                System.currentTimeMillis() - started);
+    }
+
+    @Scheduled(fixedRateString = "${app.reminders.tick:1000}")
+    public void tick() {
+        List<Long> expired = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advanceTo(System.currentTimeMillis(), expired::add);
+        }
+        for (int i = 0; i < expired.size(); i += VERIFY_BATCH_SIZE) {
+            publishDue(expired.subList(i, Math.min(i + VERIFY_BATCH_SIZE, expired.size())));
+        }
+    }
+
+    // Changes committed on this node. Tasks outside the loaded window are left to the loader.
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.userId() != null && !inShard(event.userId())) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (wheel) {
+            if (event.deleted() || event.completed() || event.dueDate() == null) {
+                wheel.cancel(event.taskId());
+                return;
+            }
+            long dueAt = toMillis(event.dueDate());
+            // A due date set in the past is not a transition to due, so nothing fires
+            if (dueAt <= now || dueAt >= loadedUntil) {
+                wheel.cancel(event.taskId());
+            } else {
+                wheel.schedule(event.taskId(), dueAt);
+            }
+        }
+    }
+
+    private void publishDue(List<Long> taskIds) {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.query(VERIFY_SQL, resultSet -> {
+            long taskId = resultSet.getLong(1);
+            LocalDateTime dueDate = resultSet.getObject(3, LocalDateTime.class);
+            if (dueDate == null) {
+                return;
+            }
+            long dueAt = toMillis(dueDate);
+            if (dueAt > now) {
+                // Moved later while the wheel held an older due date
+                synchronized (wheel) {
+                    if (dueAt < loadedUntil && !wheel.contains(taskId)) {
+                        wheel.schedule(taskId, dueAt);
+                    }
+                }
+                return;
+            }
+            logger.debug("Task {} is due ({})", taskId, dueDate);
+            fired.increment();
+            eventPublisher.publishEvent(new TaskDueEvent(taskId, resultSet.getLong(2), dueDate));
+        }, (Object) taskIds.toArray(Long[]::new));
+    }
+
+    // A cursor (fetch size inside a transaction) keeps large windows out of the heap
+    private void query(String sql, RowCallbackHandler handler, Timestamp... range) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < range.length; i++) {
+                statement.setTimestamp(i + 1, range[i]);
+            }
+            statement.setInt(range.length + 1, properties.getShardCount());
+            statement.setInt(range.length + 2, properties.getShardIndex());
+            return statement;
+        }, handler);
+    }
+
+    private boolean inShard(long userId) {
+        return Math.floorMod(userId, properties.getShardCount()) == properties.getShardIndex();
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private Timestamp timestamp(long millis) {
+        return Timestamp.from(Instant.ofEpochMilli(millis));
+    }
+}
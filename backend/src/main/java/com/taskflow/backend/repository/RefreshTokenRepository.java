@@ -0,0 +1,38 @@
+package com.taskflow.backend.repository;
+
+import com.taskflow.backend.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByJti(String jti);
+
+    // Claim a token for rotation; returns 0 if it was already rotated or revoked
+    @Modifying
+    @Query("update RefreshToken t set t.rotatedAt = :now, t.replacedBy = :replacedBy " +
+           "where t.jti = :jti and t.rotatedAt is null and t.revokedAt is null")
+    int markRotated(@Param("jti") String jti, @Param("replacedBy") String replacedBy, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    // Families revoked after the given instant that still have unexpired tokens:
+    // as [familyId, latest expiresAt] rows
+    @Query("select t.familyId, max(t.expiresAt) from RefreshToken t " +
+           "where t.revokedAt > :since and t.expiresAt > :now group by t.familyId")
+    List<Object[]> findFamiliesRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
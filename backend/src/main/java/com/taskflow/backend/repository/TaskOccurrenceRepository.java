@@ -0,0 +1,20 @@
+package com.taskflow.backend.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.backend.model.TaskOccurrence;
+
+@Repository
+public interface TaskOccurrenceRepository extends JpaRepository<TaskOccurrence, Long> {
+
+    // Exceptions of the given series inside a window (uk_task_occurrences_task_date)
+    List<TaskOccurrence> findByTaskIdInAndOccurrenceDateBetween(Collection<Long> taskIds, LocalDate from, LocalDate to);
+
+    Optional<TaskOccurrence> findByTaskIdAndOccurrenceDate(Long taskId, LocalDate occurrenceDate);
+}
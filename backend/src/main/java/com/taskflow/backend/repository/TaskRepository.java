@@ -1,14 +1,61 @@
 package com.taskflow.backend.repository;
 
 import com.taskflow.backend.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
     // Find all tasks for a specific user ID
     List<Task> findByUserId(Long userId);
+
+    // Owner-scoped lookups used for every task read and write; a task owned by someone
+    // else is simply not found, in the same single query
+    Page<Task> findByUserId(Long userId, Pageable pageable);
+
+    Optional<Task> findByIdAndUserId(Long id, Long userId);
+
+    // Tasks carrying all of the labels (labels @> :labels, idx_tasks_user_labels)
+    @Query("select t from Task t where t.user.id = :userId and array_includes(t.labels, :labels)")
+    Page<Task> findByUserIdAndLabels(@Param("userId") Long userId, @Param("labels") String[] labels,
+                                     Pageable pageable);
+
+    List<Task> findByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    // Batch reads: the tasks with their assignees and categories, in one query (the owner is
+    // fetched too, as it would otherwise be loaded eagerly by a second one)
+    @Query("select t from Task t join fetch t.user left join fetch t.assignee left join fetch t.category " +
+            "where t.user.id = :userId and t.id in :ids")
+    List<Task> findWithReferences(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // One board column in display order (uk_tasks_user_status_rank); unranked tasks last
+    @Query("select t from Task t where t.user.id = :userId and t.status = :status order by t.rank asc nulls last, t.id")
+    Page<Task> findBoardColumn(@Param("userId") Long userId, @Param("status") String status, Pageable pageable);
+
+    // A task's subtree through the closure table (pk_task_closure), shallowest first
+    @Query(value = "select t.* from task_closure c join tasks t on t.id = c.descendant_id " +
+            "where c.ancestor_id = :id and c.depth <= :maxDepth order by c.depth, t.id", nativeQuery = true)
+    List<Task> findSubtree(@Param("id") Long id, @Param("maxDepth") int maxDepth);
+
+    // Window listings. Open recurring series that start before the window ends
+    // (idx_tasks_user_recurring), and the one-off tasks due inside it as (id, dueDate)
+    // rows in listing order (idx_tasks_user_due_single)
+    @Query("select t from Task t left join fetch t.assignee where t.user.id = :userId " +
+            "and t.recurrence is not null and t.completed = false and t.dueDate < :end")
+    List<Task> findOpenSeries(@Param("userId") Long userId, @Param("end") LocalDateTime end);
+
+    @Query("select t.id, t.dueDate from Task t where t.user.id = :userId and t.recurrence is null " +
+            "and t.dueDate >= :start and t.dueDate < :end order by t.dueDate, t.id")
+    List<Object[]> findDueBetween(@Param("userId") Long userId, @Param("start") LocalDateTime start,
+                                  @Param("end") LocalDateTime end);
 }
\ No newline at end of file
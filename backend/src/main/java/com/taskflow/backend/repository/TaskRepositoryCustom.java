@@ -0,0 +1,19 @@
+package com.taskflow.backend.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.taskflow.backend.dto.TaskFieldPlan;
+
+// Projection queries for sparse fieldsets, scoped to the owning user. Rows hold the
+// plan's columns in order.
+public interface TaskRepositoryCustom {
+
+    // labels: only tasks carrying all of them (empty = no filter)
+    Page<Object[]> findColumns(TaskFieldPlan plan, Long userId, List<String> labels, Pageable pageable);
+
+    Optional<Object[]> findColumnsById(TaskFieldPlan plan, Long id, Long userId);
+}
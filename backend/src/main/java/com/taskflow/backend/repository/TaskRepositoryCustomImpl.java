@@ -0,0 +1,69 @@
+package com.taskflow.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.taskflow.backend.dto.TaskField;
+import com.taskflow.backend.dto.TaskFieldPlan;
+import com.taskflow.backend.exception.ValidationException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Object[]> findColumns(TaskFieldPlan plan, Long userId, List<String> labels, Pageable pageable) {
+        // labels @> :labels, served by idx_tasks_user_labels
+        String where = " where t.user.id = :userId" + (labels.isEmpty() ? "" : " and array_includes(t.labels, :labels)");
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                        plan.getSelectJpql() + where + orderBy(pageable.getSort()), Object[].class)
+                .setParameter("userId", userId)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        TypedQuery<Long> count = entityManager.createQuery("select count(t) from Task t" + where, Long.class)
+                .setParameter("userId", userId);
+        if (!labels.isEmpty()) {
+            // Bound as one array value, not expanded like a collection
+            String[] values = labels.toArray(String[]::new);
+            query.setParameter("labels", values);
+            count.setParameter("labels", values);
+        }
+        return new PageImpl<>(query.getResultList(), pageable, count.getSingleResult());
+    }
+
+    @Override
+    public Optional<Object[]> findColumnsById(TaskFieldPlan plan, Long id, Long userId) {
+        return entityManager.createQuery(plan.getSelectJpql() + " where t.id = :id and t.user.id = :userId", Object[].class)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    // Sort properties are DTO field names; only task columns can be sorted on
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            TaskField field = TaskField.byName(order.getProperty());
+            if (field == null || field.isCollection() || field.isAssignee()) {
+                throw new ValidationException("Cannot sort by: " + order.getProperty());
+            }
+            orders.add(field.getPath() + (order.isAscending() ? " asc" : " desc"));
+        }
+        return " order by " + String.join(", ", orders);
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskflow.backend.repository;
+
+import com.taskflow.backend.model.TaskView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+// Live and archived tasks together; each predicate is pushed into both halves of the view,
+// so these use the same indexes as the TaskRepository lookups plus their archive twins.
+// Listings join the assignees into the page query rather than loading them per row.
+@Repository
+public interface TaskViewRepository extends JpaRepository<TaskView, Long> {
+
+    @EntityGraph(attributePaths = "assignee")
+    Page<TaskView> findByUserId(Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "assignee")
+    @Query("select t from TaskView t where t.userId = :userId and array_includes(t.labels, :labels)")
+    Page<TaskView> findByUserIdAndLabels(@Param("userId") Long userId, @Param("labels") String[] labels,
+                                         Pageable pageable);
+
+    Optional<TaskView> findByIdAndUserId(Long id, Long userId);
+}
@@ -1,6 +1,7 @@
 package com.taskflow.backend.security;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -9,6 +10,11 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,10 +25,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationList revocationList;
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService,
+                                   TokenRevocationList revocationList, MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.revocationList = revocationList;
+        this.validTokenTimer = tokenTimer(meterRegistry, "valid");
+        this.invalidTokenTimer = tokenTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer tokenTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("taskflow.jwt.verify")
+                .description("Time spent parsing and verifying JWTs")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     // Filter to validate JWT on every request
@@ -35,28 +56,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String token;
-        final String email;
+        String email = null;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        // Already authenticated: a batch operation carries the batch request's authentication
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         token = authHeader.substring(7);
-        email = jwtTokenProvider.getEmailFromToken(token);
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var userDetails = userDetailsService.loadUserByUsername(email);
+        // Time parse + signature verification only; the user lookup below is a repository call
+        long start = System.nanoTime();
+        boolean valid = false;
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            // Refresh tokens are only accepted by /auth/refresh-token, and revoked families
+            // are rejected with an in-memory lookup rather than a database query
+            valid = !JwtTokenProvider.REFRESH_TYPE.equals(claims.get(JwtTokenProvider.TYPE_CLAIM, String.class))
+                    && !revocationList.isRevoked(claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class));
+            email = claims.getSubject();
+        } catch (JwtException | IllegalArgumentException ex) {
+            // Invalid, expired or malformed token: continue unauthenticated
+        } finally {
+            (valid ? validTokenTimer : invalidTokenTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
 
-            if (jwtTokenProvider.validateToken(token)) {
-                var authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities()
-                );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        if (valid && email != null) {
+            var userDetails = userDetailsService.loadUserByUsername(email);
+            var authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities()
+            );
+            authToken.setDetails(
+                    new WebAuthenticationDetailsSource().buildDetails(request)
+            );
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
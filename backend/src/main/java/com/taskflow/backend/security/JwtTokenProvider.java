@@ -2,6 +2,7 @@ package com.taskflow.backend.security;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -9,6 +10,8 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -20,6 +23,10 @@ import io.jsonwebtoken.security.SecurityException;
 @Component
 public class JwtTokenProvider {
 
+    public static final String FAMILY_CLAIM = "fid";
+    public static final String TYPE_CLAIM = "typ";
+    public static final String REFRESH_TYPE = "refresh";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -35,29 +42,46 @@ public class JwtTokenProvider {
     }
 
     public String generateToken(Authentication authentication) {
-        String username = authentication.getName();
+        return generateToken(authentication, null);
+    }
+
+    // Access token; familyId ties it to a refresh-token family so it can be revoked with it
+    public String generateToken(Authentication authentication, String familyId) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(authentication.getName())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + jwtExpirationInMs));
+        if (familyId != null) {
+            builder.claim(FAMILY_CLAIM, familyId);
+        }
+        return builder.signWith(getSigningKey(), SignatureAlgorithm.HS512).compact();
+    }
 
+    public String generateRefreshToken(Authentication authentication, String familyId, String tokenId, Date issuedAt) {
         return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
+                .setId(tokenId)
+                .setSubject(authentication.getName())
+                .claim(FAMILY_CLAIM, familyId)
+                .claim(TYPE_CLAIM, REFRESH_TYPE)
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + refreshExpirationInMs))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    public String generateRefreshToken(Authentication authentication) {
-        String username = authentication.getName();
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + refreshExpirationInMs);
+    public long getRefreshExpirationInMs() {
+        return refreshExpirationInMs;
+    }
 
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
-                .compact();
+    // Parse and verify in one pass; throws JwtException or IllegalArgumentException when invalid
+    public Claims parseClaims(String token) throws JwtException {
+        return Jwts.parserBuilder()
+                .setSigningKey(getSigningKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
     }
 
     public String getEmailFromToken(String token) {
@@ -1,5 +1,6 @@
 package com.taskflow.backend.security;
 
+import com.taskflow.backend.exception.ServiceUnavailableException;
 import com.taskflow.backend.model.User;
 import com.taskflow.backend.repository.UserRepository;
 import jakarta.servlet.ServletException;
@@ -81,7 +82,17 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         }
 
         // Find or create user
-        User user = processOAuthUser(email, name, githubId);
+        User user;
+        try {
+            user = processOAuthUser(email, name, githubId);
+        } catch (ServiceUnavailableException ex) {
+            // Creating the user hashes a password; too many sign-ins are being hashed right now
+            String errorUrl = UriComponentsBuilder.fromUriString(frontendRedirectUri)
+                                           .queryParam("error", ex.getMessage())
+                                           .build().toUriString();
+            getRedirectStrategy().sendRedirect(request, response, errorUrl);
+            return;
+        }
 
         // Create Authentication object for JwtTokenProvider
         // Use user.getEmail() as principal, null credentials, and derive authorities
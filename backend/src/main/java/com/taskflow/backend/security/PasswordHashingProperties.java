@@ -0,0 +1,19 @@
+package com.taskflow.backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+    // BCrypt cost factor; stored hashes with a lower one are rehashed on the next login
+    private int strength = 10;
+    // Threads hashing and verifying passwords; 0 means one per available processor
+    private int threads = 0;
+    // Hashes waiting for a thread; beyond that, callers get a 503 right away
+    private int queueCapacity = 32;
+}
@@ -0,0 +1,55 @@
+package com.taskflow.backend.security;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Runs right after JwtAuthenticationFilter so limits apply per user; requests without a
+// valid token are limited per remote address. Not a bean on purpose: it is only added to
+// the security chain, never registered with the servlet container on its own.
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String TOO_MANY_REQUESTS_BODY =
+            "{\"status\":\"error\",\"data\":null,\"message\":\"Too many requests\",\"metadata\":null}";
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String clientKey = authentication != null ? authentication.getName() : request.getRemoteAddr();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        long waitNanos = rateLimiter.tryAcquire(request.getMethod(), path, clientKey);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(TOO_MANY_REQUESTS_BODY);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
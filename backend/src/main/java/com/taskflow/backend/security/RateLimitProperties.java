@@ -0,0 +1,33 @@
+package com.taskflow.backend.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Checked in order; the first route matching the request decides its limit
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        // Used as the metrics tag
+        private String name;
+        // Empty means any method
+        private List<String> methods = new ArrayList<>();
+        // Exact path, or a prefix when it ends with /**
+        private String path;
+        // Burst size
+        private int capacity;
+        private double refillPerSecond;
+    }
+}
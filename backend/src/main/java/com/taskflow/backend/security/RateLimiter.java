@@ -0,0 +1,109 @@
+package com.taskflow.backend.security;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Per-client token buckets for each configured route class. Buckets live in one
+// ConcurrentHashMap per route; the common path is a lock-free get plus a CAS.
+@Component
+public class RateLimiter {
+
+    private final boolean enabled;
+    private final List<RouteLimit> routes;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new RouteLimit(route, meterRegistry))
+                .toList();
+    }
+
+    public boolean isEnabled() {
+        return enabled && !routes.isEmpty();
+    }
+
+    // Returns 0 when the request may proceed, otherwise the nanoseconds until it would be allowed
+    public long tryAcquire(String method, String path, String clientKey) {
+        for (RouteLimit route : routes) {
+            if (route.matches(method, path)) {
+                return route.tryAcquire(clientKey, System.nanoTime());
+            }
+        }
+        return 0;
+    }
+
+    // A bucket that refilled completely carries no state, so idle clients cost no memory.
+    // A request racing with the removal may land on the dropped bucket; that only ever
+    // lets one extra request through.
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (RouteLimit route : routes) {
+            route.buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        }
+    }
+
+    private static final class RouteLimit {
+
+        private final Set<String> methods;
+        private final String path;
+        private final boolean prefix;
+        private final int capacity;
+        private final double refillPerSecond;
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter rejected;
+
+        RouteLimit(RateLimitProperties.Route route, MeterRegistry meterRegistry) {
+            if (route.getPath() == null || route.getCapacity() < 1 || route.getRefillPerSecond() <= 0) {
+                throw new IllegalStateException("Invalid rate limit route: " + route);
+            }
+            this.methods = route.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.prefix = route.getPath().endsWith("/**");
+            this.path = prefix ? route.getPath().substring(0, route.getPath().length() - 2) : route.getPath();
+            this.capacity = route.getCapacity();
+            this.refillPerSecond = route.getRefillPerSecond();
+
+            String name = route.getName() != null ? route.getName() : route.getPath();
+            this.rejected = Counter.builder("taskflow.ratelimit.rejected")
+                    .description("Requests rejected with 429 by the rate limiter")
+                    .tag("route", name)
+                    .register(meterRegistry);
+            Gauge.builder("taskflow.ratelimit.buckets", buckets, ConcurrentHashMap::size)
+                    .description("Clients currently holding a rate limit bucket")
+                    .tag("route", name)
+                    .register(meterRegistry);
+        }
+
+        boolean matches(String method, String requestPath) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            return prefix ? requestPath.startsWith(path) : requestPath.equals(path);
+        }
+
+        long tryAcquire(String clientKey, long now) {
+            // get() first: computeIfAbsent locks the bin even when the key is present
+            TokenBucket bucket = buckets.get(clientKey);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(clientKey, key -> new TokenBucket(capacity, refillPerSecond, now));
+            }
+            long waitNanos = bucket.tryAcquire(now);
+            if (waitNanos > 0) {
+                rejected.increment();
+            }
+            return waitNanos;
+        }
+    }
+}
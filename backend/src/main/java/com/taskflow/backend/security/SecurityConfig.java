@@ -15,6 +15,13 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.oauth2.client.web.OAuth2LoginAuthenticationFilter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.idempotency.IdempotencyFilter;
+import com.taskflow.backend.idempotency.IdempotencyStore;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+
 @Configuration
 @EnableMethodSecurity
 @EnableWebSecurity
@@ -24,10 +31,17 @@ public class SecurityConfig {
     private JwtAuthenticationFilter jwtAuthFilter;
     private final AuthenticationEntryPoint unauthorizedHandler;
     private final OAuth2AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler;
+    private final RateLimiter rateLimiter;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
 
-    public SecurityConfig(AuthenticationEntryPoint unauthorizedHandler, OAuth2AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler) {
+    public SecurityConfig(AuthenticationEntryPoint unauthorizedHandler, OAuth2AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler,
+                          RateLimiter rateLimiter, IdempotencyStore idempotencyStore, ObjectMapper objectMapper) {
         this.unauthorizedHandler = unauthorizedHandler;
         this.oauth2AuthenticationSuccessHandler = oauth2AuthenticationSuccessHandler;
+        this.rateLimiter = rateLimiter;
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
     }
 
     // Configure security filter chain
@@ -37,9 +51,13 @@ public class SecurityConfig {
                 .exceptionHandling(handling -> handling.authenticationEntryPoint(unauthorizedHandler))
                 .cors(cors -> {})
                 .authorizeHttpRequests(requests -> requests
+                        // Completion of an asynchronous (/api/v2) request, already authorized when it
+                        // started; the stateless context is not carried over to the new dispatch
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/api/v1/auth/**", "/oauth2/**", "/login/oauth2/code/*").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(management -> management.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .oauth2Login(oauth2 -> oauth2
@@ -47,6 +65,16 @@ public class SecurityConfig {
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // Rate limiting first, so that throttled retries never reach the idempotency store
+        Class<? extends Filter> previous = JwtAuthenticationFilter.class;
+        if (rateLimiter.isEnabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimiter), previous);
+            previous = RateLimitFilter.class;
+        }
+        if (idempotencyStore.isEnabled()) {
+            http.addFilterAfter(new IdempotencyFilter(idempotencyStore, objectMapper), previous);
+        }
+
         return http.build();
     }
 
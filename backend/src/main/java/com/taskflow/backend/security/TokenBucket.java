@@ -0,0 +1,39 @@
+package com.taskflow.backend.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket implemented as GCRA: the whole state is one "theoretical arrival time",
+// so a request costs one read and one CAS and never takes a lock. Times are
+// System.nanoTime() values and are only ever compared by subtraction.
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, double refillPerSecond, long now) {
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    // Takes one token. Returns 0 when allowed, otherwise how many nanoseconds until a token is available.
+    long tryAcquire(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = (tat - now > 0 ? tat : now) + emissionIntervalNanos;
+            long allowAt = next - burstNanos;
+            if (allowAt - now > 0) {
+                return allowAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Fully refilled, so dropping it is indistinguishable from keeping it
+    boolean isIdle(long now) {
+        return theoreticalArrival.get() - now <= 0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.taskflow.backend.security;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.repository.RefreshTokenRepository;
+
+import jakarta.annotation.PostConstruct;
+
+// In-memory set of revoked token families, checked by JwtAuthenticationFilter on every
+// request with a single hash lookup. Loaded from refresh_tokens at startup and kept in
+// sync with revocations made on other nodes by polling the revoked_at index.
+@Component
+public class TokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    // familyId -> when the family's last token expires; after that nothing from it is valid anyway
+    private final ConcurrentMap<String, LocalDateTime> revokedFamilies = new ConcurrentHashMap<>();
+    private final long pollOverlapMs;
+    private volatile LocalDateTime lastSync;
+
+    public TokenRevocationList(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${app.jwt.revocation-poll-interval:30000}") long pollIntervalMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        // Re-read a little history on each poll to tolerate clock skew between nodes
+        this.pollOverlapMs = pollIntervalMs * 2;
+    }
+
+    public boolean isRevoked(String familyId) {
+        return familyId != null && revokedFamilies.containsKey(familyId);
+    }
+
+    // Record a revocation made on this node without waiting for the next poll
+    public void revoke(String familyId, LocalDateTime expiresAt) {
+        revokedFamilies.merge(familyId, expiresAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    @PostConstruct
+    public void load() {
+        sync();
+        logger.info("Loaded {} revoked token families", revokedFamilies.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-poll-interval:30000}",
+               initialDelayString = "${app.jwt.revocation-poll-interval:30000}")
+    @Transactional(readOnly = true)
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSync == null ? EPOCH : lastSync.minusNanos(pollOverlapMs * 1_000_000);
+
+        for (Object[] row : refreshTokenRepository.findFamiliesRevokedSince(since, now)) {
+            revoke((String) row[0], (LocalDateTime) row[1]);
+        }
+        lastSync = now;
+
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+    }
+
+    @Scheduled(cron = "${app.jwt.refresh-token-cleanup-cron:0 0 3 * * *}")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskflow.backend.security;
+
+import java.util.Collection;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import com.taskflow.backend.exception.UnauthorizedException;
+
+// Authenticated user with the database id, so owner-scoped queries need no user lookup
+public class UserPrincipal extends User {
+
+    private final Long id;
+
+    public UserPrincipal(Long id, String email, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    // Id of the user authenticated on this thread
+    public static Long currentId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        throw new UnauthorizedException("User not authenticated");
+    }
+}
@@ -6,7 +6,6 @@ import com.taskflow.backend.dto.RegisterRequest;
 import com.taskflow.backend.exception.UnauthorizedException;
 import com.taskflow.backend.model.User;
 import com.taskflow.backend.repository.UserRepository;
-import com.taskflow.backend.security.JwtTokenProvider;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -23,19 +22,22 @@ import java.util.UUID;
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
-    private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final UserWriteBehindBuffer userWriteBehindBuffer;
 
     public AuthService(
             AuthenticationManager authenticationManager,
-            JwtTokenProvider jwtTokenProvider,
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            RefreshTokenService refreshTokenService,
+            UserWriteBehindBuffer userWriteBehindBuffer) {
         this.authenticationManager = authenticationManager;
-        this.jwtTokenProvider = jwtTokenProvider;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.refreshTokenService = refreshTokenService;
+        this.userWriteBehindBuffer = userWriteBehindBuffer;
     }
 
     public JwtResponse login(LoginRequest request) {
@@ -46,16 +48,12 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         
-        String token = jwtTokenProvider.generateToken(authentication);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
+        JwtResponse tokens = refreshTokenService.issueTokens(authentication);
 
-        // Update last login
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UnauthorizedException("User not found"));
-        user.setLastLogin(LocalDateTime.now());
-        userRepository.save(user);
+        // Last login is written in the background; a lost update only costs a stale timestamp
+        userWriteBehindBuffer.recordLogin(authentication.getName(), LocalDateTime.now());
 
-        return new JwtResponse(token, refreshToken);
+        return tokens;
     }
 
     @Transactional
@@ -91,28 +89,13 @@ public class AuthService {
         // TODO: Generate new verification token and send email
     }
 
+    // Rotate the refresh token; replaying an already-used one revokes its whole family
     public JwtResponse refreshToken(String refreshToken) {
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new UnauthorizedException("Invalid refresh token");
-        }
-
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("User not found"));
-
-        // Create authentication object for token generation
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getEmail(), null, java.util.Collections.emptyList());
-        
-        String newToken = jwtTokenProvider.generateToken(authentication);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(authentication);
-
-        return new JwtResponse(newToken, newRefreshToken);
+        return refreshTokenService.rotate(refreshToken);
     }
 
     @Transactional
     public void logout(String refreshToken) {
-        // TODO: Implement token invalidation logic
-        // This could involve storing the token in a blacklist or deleting it from a valid tokens table
+        refreshTokenService.revoke(refreshToken);
     }
 }
@@ -2,6 +2,8 @@ package com.taskflow.backend.service;
 
 import com.taskflow.backend.model.Category;
 import com.taskflow.backend.repository.CategoryRepository;
+import com.taskflow.backend.singleflight.SingleFlight;
+import com.taskflow.backend.singleflight.SingleFlights;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -10,14 +12,17 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    // Every client loads the list on startup; concurrent loads share one query
+    private final SingleFlight<String, List<Category>> allCategories;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, SingleFlights singleFlights) {
         this.categoryRepository = categoryRepository;
+        this.allCategories = singleFlights.readOnly("categories");
     }
 
     // Get all categories from the database
     public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
+        return allCategories.execute("all", categoryRepository::findAll);
     }
 
     // Create a new category
@@ -0,0 +1,134 @@
+package com.taskflow.backend.service;
+
+import com.taskflow.backend.dto.JwtResponse;
+import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.model.RefreshToken;
+import com.taskflow.backend.repository.RefreshTokenRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtTokenProvider;
+import com.taskflow.backend.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.UUID;
+
+// Issues refresh tokens as families, rotates them on use and revokes whole families
+// on logout or when an already-rotated token is presented again (token reuse).
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList revocationList;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            JwtTokenProvider jwtTokenProvider,
+            TokenRevocationList revocationList) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationList = revocationList;
+    }
+
+    // Start a new token family for a fresh login
+    @Transactional
+    public JwtResponse issueTokens(Authentication authentication) {
+        return issue(authentication, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+
+    // noRollbackFor: the family revocation on reuse must commit even though we then reject the request
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public JwtResponse rotate(String refreshToken) {
+        Claims claims = parseRefreshToken(refreshToken);
+        String jti = claims.getId();
+        String familyId = claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class);
+
+        String nextJti = UUID.randomUUID().toString();
+        if (refreshTokenRepository.markRotated(jti, nextJti, LocalDateTime.now()) == 0) {
+            RefreshToken stored = refreshTokenRepository.findByJti(jti)
+                    .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+            if (stored.getRevokedAt() == null) {
+                // Already rotated once: someone is replaying an old token, so burn the family
+                logger.warn("Refresh token reuse detected for {} (family {})", stored.getSubject(), familyId);
+                revokeFamily(stored.getFamilyId());
+            }
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+
+        if (!userRepository.existsByEmail(claims.getSubject())) {
+            throw new UnauthorizedException("User not found");
+        }
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                claims.getSubject(), null, Collections.emptyList());
+        return issue(authentication, familyId, nextJti);
+    }
+
+    // Logout: revoke the family of the presented token. Unknown or invalid tokens are ignored.
+    @Transactional
+    public void revoke(String refreshToken) {
+        Claims claims;
+        try {
+            claims = parseRefreshToken(refreshToken);
+        } catch (UnauthorizedException ex) {
+            return;
+        }
+        revokeFamily(claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class));
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+        // Access tokens of this family expire before its refresh tokens do
+        revocationList.revoke(familyId, LocalDateTime.now().plusNanos(jwtTokenProvider.getRefreshExpirationInMs() * 1_000_000));
+    }
+
+    private JwtResponse issue(Authentication authentication, String familyId, String jti) {
+        Date issuedAt = new Date();
+        String accessToken = jwtTokenProvider.generateToken(authentication, familyId);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(authentication, familyId, jti, issuedAt);
+
+        RefreshToken stored = new RefreshToken();
+        stored.setJti(jti);
+        stored.setFamilyId(familyId);
+        stored.setSubject(authentication.getName());
+        stored.setIssuedAt(toLocalDateTime(issuedAt));
+        stored.setExpiresAt(toLocalDateTime(new Date(issuedAt.getTime() + jwtTokenProvider.getRefreshExpirationInMs())));
+        refreshTokenRepository.save(stored);
+
+        return new JwtResponse(accessToken, refreshToken);
+    }
+
+    private Claims parseRefreshToken(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        if (!JwtTokenProvider.REFRESH_TYPE.equals(claims.get(JwtTokenProvider.TYPE_CLAIM, String.class))
+                || claims.getId() == null
+                || claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class) == null) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        return claims;
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,221 @@
+package com.taskflow.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.backend.board.RankKeys;
+import com.taskflow.backend.dto.MoveTaskRequest;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.event.TaskChangedEvent;
+import com.taskflow.backend.event.TaskRanksChangedEvent;
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.security.UserPrincipal;
+
+// Kanban ordering. Each (user, status) column is ordered by the tasks' rank keys, so a move
+// rewrites only the moved task's key. Moves and rebalances of a column are serialized with a
+// transaction-scoped advisory lock on that column (a move locks the column it leaves and the
+// one it enters, in name order); the unique (user_id, status, rank) index is the backstop.
+// Status changes outside the board (PUT/PATCH) take no lock, so the rebalancer only writes
+// keys to tasks that are still in the column it read them from.
+//
+// New tasks and tasks whose status changed start unranked (after every ranked task, by id).
+// The rebalancer ranks them in the background and re-spreads columns whose keys have grown
+// past app.board.max-rank-length from repeated moves into the same gap; every column it
+// rewrites publishes a TaskRanksChangedEvent, so the owner's cached pages are dropped.
+@Service
+public class TaskBoardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBoardService.class);
+
+    private static final int REBALANCE_BATCH = 100;
+
+    private static final String LOCK_COLUMN_SQL =
+            "SELECT pg_advisory_xact_lock(hashtextextended(? || ':' || ?, 0))";
+    private static final String FIRST_RANK_SQL =
+            "SELECT min(rank) FROM tasks WHERE user_id = ? AND status = ? AND id <> ?";
+    private static final String NEXT_RANK_SQL =
+            "SELECT min(rank) FROM tasks WHERE user_id = ? AND status = ? AND rank > ? AND id <> ?";
+    private static final String LAST_RANK_SQL =
+            "SELECT max(rank) FROM tasks WHERE user_id = ? AND status = ?";
+    private static final String COLUMN_IDS_SQL =
+            "SELECT id FROM tasks WHERE user_id = ? AND status = ? ORDER BY rank NULLS LAST, id";
+    private static final String UNRANKED_IDS_SQL =
+            "SELECT id FROM tasks WHERE user_id = ? AND status = ? AND rank IS NULL ORDER BY id";
+    private static final String CLEAR_RANKS_SQL =
+            "UPDATE tasks SET rank = NULL WHERE user_id = ? AND status = ? AND rank IS NOT NULL";
+    private static final String SET_RANKS_SQL =
+            "UPDATE tasks t SET rank = v.rank FROM unnest(?::bigint[], ?::text[]) AS v(id, rank) " +
+            "WHERE t.id = v.id AND t.user_id = ? AND t.status = ?";
+    private static final String UNRANKED_COLUMNS_SQL =
+            "SELECT DISTINCT user_id, status FROM tasks WHERE rank IS NULL AND status IS NOT NULL LIMIT ?";
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxRankLength;
+    // Columns that received an over-long key, re-spread on the next rebalance run
+    private final Set<Column> longKeyColumns = ConcurrentHashMap.newKeySet();
+
+    public TaskBoardService(TaskRepository taskRepository, TaskMapper taskMapper, JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                            @Value("${app.board.max-rank-length:16}") int maxRankLength) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.maxRankLength = maxRankLength;
+    }
+
+    // One board column in display order
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> getColumn(String status, int page, int size) {
+        return taskRepository.findBoardColumn(UserPrincipal.currentId(), status, PageRequest.of(page, size))
+                .map(taskMapper::toResponse);
+    }
+
+    // Moves a task into request.status (default: its current column) directly below
+    // request.afterId, or to the top of the column when afterId is null
+    @Transactional
+    public TaskResponseDTO moveTask(Long id, MoveTaskRequest request) {
+        Long userId = UserPrincipal.currentId();
+        Task task = findOwnedTask(id, userId);
+        String status = request.getStatus() != null ? request.getStatus() : task.getStatus();
+        if (status == null || status.isBlank()) {
+            throw new ValidationException("A board column (status) is required");
+        }
+        if (task.getStatus() != null && !task.getStatus().equals(status)) {
+            lockColumns(userId, status, task.getStatus());
+        } else {
+            lockColumn(userId, status);
+        }
+
+        String after = null;
+        if (request.getAfterId() != null) {
+            if (request.getAfterId().equals(id)) {
+                throw new ValidationException("A task cannot be moved below itself");
+            }
+            Task anchor = findOwnedTask(request.getAfterId(), userId);
+            if (!status.equals(anchor.getStatus())) {
+                throw new ValidationException("Task " + anchor.getId() + " is not in column " + status);
+            }
+            after = anchor.getRank();
+            if (after == null) {
+                // Placing relative to an unranked task: rank the column's tail first (rare,
+                // the rebalancer normally gets there before the user does)
+                rankUnranked(userId, status);
+                after = rankOf(anchor.getId());
+            }
+        }
+        String before = after == null
+                ? jdbcTemplate.queryForObject(FIRST_RANK_SQL, String.class, userId, status, id)
+                : jdbcTemplate.queryForObject(NEXT_RANK_SQL, String.class, userId, status, after, id);
+        String rank = RankKeys.between(after, before);
+
+        // The only write: this task's row, flushed at commit
+        task.setStatus(status);
+        task.setRank(rank);
+        if (rank.length() > maxRankLength) {
+            longKeyColumns.add(new Column(userId, status));
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.saved(task));
+        return taskMapper.toResponse(task);
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.rebalance-interval:60000}")
+    public void rebalance() {
+        List<Column> columns = new ArrayList<>(longKeyColumns);
+        longKeyColumns.removeAll(columns);
+        for (Column column : columns) {
+            transactionTemplate.executeWithoutResult(status -> {
+                lockColumn(column.userId(), column.status());
+                respread(column.userId(), column.status());
+            });
+        }
+        List<Column> unranked = jdbcTemplate.query(UNRANKED_COLUMNS_SQL,
+                (resultSet, row) -> new Column(resultSet.getLong(1), resultSet.getString(2)), REBALANCE_BATCH);
+        for (Column column : unranked) {
+            transactionTemplate.executeWithoutResult(status -> {
+                lockColumn(column.userId(), column.status());
+                rankUnranked(column.userId(), column.status());
+            });
+        }
+        if (!columns.isEmpty() || !unranked.isEmpty()) {
+            logger.debug("Rebalanced {} board columns and ranked new tasks in {}", columns.size(), unranked.size());
+        }
+    }
+
+    // Appends the column's unranked tasks after its last ranked one, oldest first
+    private void rankUnranked(Long userId, String status) {
+        List<Long> ids = jdbcTemplate.queryForList(UNRANKED_IDS_SQL, Long.class, userId, status);
+        if (ids.isEmpty()) {
+            return;
+        }
+        String last = jdbcTemplate.queryForObject(LAST_RANK_SQL, String.class, userId, status);
+        List<String> ranks = RankKeys.spread(last, null, ids.size());
+        setRanks(userId, status, ids, ranks);
+        if (ranks.get(ranks.size() - 1).length() > maxRankLength) {
+            longKeyColumns.add(new Column(userId, status));
+        }
+    }
+
+    // Gives the whole column evenly spaced keys of minimal length, keeping its order
+    private void respread(Long userId, String status) {
+        List<Long> ids = jdbcTemplate.queryForList(COLUMN_IDS_SQL, Long.class, userId, status);
+        if (ids.isEmpty()) {
+            return;
+        }
+        // Cleared first: the new keys may equal other tasks' old ones mid-update
+        jdbcTemplate.update(CLEAR_RANKS_SQL, userId, status);
+        setRanks(userId, status, ids, RankKeys.spread(null, null, ids.size()));
+    }
+
+    // Tasks that have left the column since its ids were read keep their key
+    private void setRanks(Long userId, String status, List<Long> ids, List<String> ranks) {
+        jdbcTemplate.update(SET_RANKS_SQL, ids.toArray(Long[]::new), ranks.toArray(String[]::new), userId, status);
+        eventPublisher.publishEvent(new TaskRanksChangedEvent(userId, status));
+    }
+
+    private void lockColumn(Long userId, String status) {
+        jdbcTemplate.queryForList(LOCK_COLUMN_SQL, userId.toString(), status);
+    }
+
+    // Always in the same order, so two moves between the same columns cannot deadlock
+    private void lockColumns(Long userId, String first, String second) {
+        lockColumn(userId, first.compareTo(second) < 0 ? first : second);
+        lockColumn(userId, first.compareTo(second) < 0 ? second : first);
+    }
+
+    private String rankOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT rank FROM tasks WHERE id = ?", String.class, id);
+    }
+
+    private Task findOwnedTask(Long id, Long userId) {
+        return taskRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
+    private record Column(Long userId, String status) {
+    }
+}
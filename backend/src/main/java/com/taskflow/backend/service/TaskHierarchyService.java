@@ -0,0 +1,240 @@
+package com.taskflow.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.dto.TaskRollupDTO;
+import com.taskflow.backend.event.TaskChangedEvent;
+import com.taskflow.backend.exception.ResourceNotFoundException;
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.security.UserPrincipal;
+
+// Subtask tree. tasks.parent_id is mirrored in task_closure (every ancestor/descendant pair,
+// plus each task with itself at depth 0), so subtrees and rollups are single indexed queries.
+// Every change to the tree runs in the caller's transaction under a per-user advisory lock,
+// which keeps concurrent moves from building a cycle or copying a stale ancestor path.
+//
+// Rollups are cached per node, computed on the primary. A change evicts the cached rollups
+// of the changed tasks and all their ancestors once it commits; a rollup computed while an
+// eviction happened is not cached, so a reader can never put back a value from before the
+// change. A change made on another node drops all of its user's rollups here when its
+// notification arrives (TaskPageInvalidator), and every rollup expires after a while, which
+// bounds what a missed notification can leave behind.
+@Service
+public class TaskHierarchyService {
+
+    private static final int USER_STAMPS = 4096;
+
+    private static final String LOCK_TREE_SQL =
+            "SELECT pg_advisory_xact_lock(hashtextextended('tree:' || ?, 0))";
+    private static final String ATTACH_SQL =
+            "INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, ?, depth + 1 FROM task_closure WHERE descendant_id = ? " +
+            "UNION ALL SELECT ?, ?, 0";
+    private static final String ATTACH_ROOTS_SQL =
+            "INSERT INTO task_closure (ancestor_id, descendant_id, depth) SELECT id, id, 0 FROM unnest(?::bigint[]) AS id";
+    private static final String IS_DESCENDANT_SQL =
+            "SELECT count(*) FROM task_closure WHERE ancestor_id = ? AND descendant_id = ?";
+    // Links from the subtree to the task's former ancestors, then from the new parent's path
+    // (including the parent itself) to every task of the subtree
+    private static final String DETACH_SUBTREE_SQL =
+            "DELETE FROM task_closure WHERE descendant_id IN (SELECT descendant_id FROM task_closure WHERE ancestor_id = ?) " +
+            "AND ancestor_id IN (SELECT ancestor_id FROM task_closure WHERE descendant_id = ? AND ancestor_id <> ?)";
+    private static final String ATTACH_SUBTREE_SQL =
+            "INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM task_closure p CROSS JOIN task_closure s WHERE p.descendant_id = ? AND s.ancestor_id = ?";
+    // Deepest first (most ancestors), so each task is deleted before its parent
+    private static final String SUBTREE_IDS_SQL =
+            "SELECT c.descendant_id FROM task_closure c WHERE c.ancestor_id = any(?) GROUP BY c.descendant_id " +
+            "ORDER BY (SELECT count(*) FROM task_closure a WHERE a.descendant_id = c.descendant_id) DESC";
+    private static final String ANCESTOR_IDS_SQL =
+            "SELECT DISTINCT ancestor_id FROM task_closure WHERE descendant_id = any(?)";
+    private static final String ROLLUP_SQL =
+            "SELECT count(*), count(*) FILTER (WHERE t.completed), coalesce(sum(t.story_points), 0), " +
+            "coalesce(sum(t.story_points) FILTER (WHERE t.completed), 0) " +
+            "FROM task_closure c JOIN tasks t ON t.id = c.descendant_id WHERE c.ancestor_id = ?";
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    // taskId -> rollup, with the owner so a hit needs no ownership query
+    private final Cache<Long, CachedRollup> rollups;
+    // Bumped by every eviction; a rollup is only cached if none happened while computing it
+    private final AtomicLong evictions = new AtomicLong();
+    // Per user (modulo the length), bumped by changes made on other nodes; a cached rollup
+    // is only used while its user's stamp is the one read before it was computed
+    private final AtomicLongArray userStamps = new AtomicLongArray(USER_STAMPS);
+
+    public TaskHierarchyService(TaskRepository taskRepository, TaskMapper taskMapper, JdbcTemplate jdbcTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${app.tasks.rollup-cache-size:10000}") int rollupCacheSize,
+                                @Value("${app.tasks.rollup-cache-ttl:60000}") long rollupCacheTtl) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.rollups = Caffeine.newBuilder()
+                .maximumSize(rollupCacheSize)
+                .expireAfterWrite(Duration.ofMillis(rollupCacheTtl))
+                .build();
+    }
+
+    // Adds a newly inserted task to the tree, under parentId (null = top level)
+    public void attach(Long userId, Long taskId, Long parentId) {
+        if (parentId == null) {
+            attachRoots(List.of(taskId));
+            return;
+        }
+        lockTree(userId);
+        jdbcTemplate.update(ATTACH_SQL, taskId, parentId, taskId, taskId);
+        evictPathsAfterCommit(List.of(taskId));
+    }
+
+    public void attachRoots(Collection<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            jdbcTemplate.update(ATTACH_ROOTS_SQL, (Object) taskIds.toArray(Long[]::new));
+        }
+    }
+
+    // The given tasks and all their subtasks, each after its own subtasks. Locks the tree
+    // so nothing is attached below them before they are deleted.
+    public List<Long> subtreeIdsDeepestFirst(Long userId, Collection<Long> rootIds) {
+        if (rootIds.isEmpty()) {
+            return List.of();
+        }
+        lockTree(userId);
+        Set<Long> ids = new LinkedHashSet<>(
+                jdbcTemplate.queryForList(SUBTREE_IDS_SQL, Long.class, (Object) rootIds.toArray(Long[]::new)));
+        ids.addAll(rootIds);
+        return new ArrayList<>(ids);
+    }
+
+    // Evicts the cached rollups of these tasks and their ancestors (as of now, so call it
+    // before the tasks are deleted or moved away) when the current transaction commits
+    public void evictPathsAfterCommit(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        List<Long> path = jdbcTemplate.queryForList(ANCESTOR_IDS_SQL, Long.class, (Object) taskIds.toArray(Long[]::new));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(path);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(path);
+            }
+        });
+    }
+
+    // Moves a task, with all of its subtasks, under parentId (null = top level)
+    @Transactional
+    public TaskResponseDTO moveSubtree(Long id, Long parentId) {
+        Long userId = UserPrincipal.currentId();
+        lockTree(userId);
+        Task task = findOwnedTask(id, userId);
+        if (parentId != null) {
+            findOwnedTask(parentId, userId);
+            if (parentId.equals(id) || isDescendant(id, parentId)) {
+                throw new ValidationException("A task cannot be moved under itself or one of its subtasks");
+            }
+        }
+        if (Objects.equals(task.getParentId(), parentId)) {
+            return taskMapper.toResponse(task);
+        }
+        evictPathsAfterCommit(List.of(id));
+        jdbcTemplate.update(DETACH_SUBTREE_SQL, id, id, id);
+        if (parentId != null) {
+            jdbcTemplate.update(ATTACH_SUBTREE_SQL, parentId, id);
+        }
+        evictPathsAfterCommit(List.of(id));
+        task.setParentId(parentId);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(task));
+        return taskMapper.toResponse(task);
+    }
+
+    // Not read-only, so it runs on the primary: a replica still behind a change could
+    // otherwise cache a rollup from before it
+    @Transactional
+    public TaskRollupDTO getRollup(Long id) {
+        Long userId = UserPrincipal.currentId();
+        long stamp = userStamps.get(userStamp(userId));
+        CachedRollup cached = rollups.getIfPresent(id);
+        if (cached != null && cached.userId().equals(userId) && cached.stamp() == stamp) {
+            return cached.rollup();
+        }
+        long generation = evictions.get();
+        findOwnedTask(id, userId);
+        TaskRollupDTO rollup = jdbcTemplate.queryForObject(ROLLUP_SQL, (resultSet, row) -> {
+            long tasks = resultSet.getLong(1);
+            long completed = resultSet.getLong(2);
+            double percent = tasks == 0 ? 0 : Math.round(1000.0 * completed / tasks) / 10.0;
+            return new TaskRollupDTO(id, Math.max(0, tasks - 1), tasks, completed,
+                    resultSet.getLong(3), resultSet.getLong(4), percent);
+        }, id);
+        if (evictions.get() == generation) {
+            rollups.put(id, new CachedRollup(userId, stamp, rollup));
+        }
+        return rollup;
+    }
+
+    // A change to one of the user's tasks was made on another node
+    public void evictRemote(Long userId) {
+        userStamps.incrementAndGet(userStamp(userId));
+    }
+
+    public void evictAll() {
+        evictions.incrementAndGet();
+        rollups.invalidateAll();
+    }
+
+    private void evict(Collection<Long> taskIds) {
+        evictions.incrementAndGet();
+        rollups.invalidateAll(taskIds);
+    }
+
+    private static int userStamp(Long userId) {
+        return (int) Math.floorMod(userId, (long) USER_STAMPS);
+    }
+
+    private boolean isDescendant(Long ancestorId, Long taskId) {
+        Long count = jdbcTemplate.queryForObject(IS_DESCENDANT_SQL, Long.class, ancestorId, taskId);
+        return count != null && count > 0;
+    }
+
+    private void lockTree(Long userId) {
+        jdbcTemplate.queryForList(LOCK_TREE_SQL, userId.toString());
+    }
+
+    private Task findOwnedTask(Long id, Long userId) {
+        return taskRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
+    private record CachedRollup(Long userId, long stamp, TaskRollupDTO rollup) {
+    }
+}
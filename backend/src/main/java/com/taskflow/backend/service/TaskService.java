@@ -8,64 +8,291 @@ import com.taskflow.backend.repository.TaskRepository;
 import com.taskflow.backend.repository.UserRepository;
 import com.taskflow.backend.repository.CategoryRepository;
 import com.taskflow.backend.model.Category;
-import com.taskflow.backend.exception.UnauthorizedException;
 import com.taskflow.backend.dto.TaskRequest;
+import com.taskflow.backend.dto.TaskPatchRequest;
 import com.taskflow.backend.model.Task.Priority;
 import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.dto.CategorySummaryDTO;
+import com.taskflow.backend.dto.TaskBatchResponse;
+import com.taskflow.backend.dto.TaskExpansion;
+import com.taskflow.backend.dto.UserSummaryDTO;
+import com.taskflow.backend.dto.TaskFieldPlan;
+import com.taskflow.backend.dto.OccurrenceRequest;
+import com.taskflow.backend.event.TaskChangedEvent;
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.model.TaskOccurrence;
+import com.taskflow.backend.recurrence.DatedTaskSource;
+import com.taskflow.backend.recurrence.OccurrenceMerge;
+import com.taskflow.backend.recurrence.OccurrenceSource;
+import com.taskflow.backend.recurrence.RecurrenceRule;
+import com.taskflow.backend.repository.TaskOccurrenceRepository;
+import com.taskflow.backend.repository.TaskViewRepository;
 import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.security.UserPrincipal;
+import com.taskflow.backend.singleflight.SingleFlight;
+import com.taskflow.backend.singleflight.SingleFlights;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
 
+    // Longest from/to window a listing expands recurring tasks for
+    private static final int MAX_WINDOW_DAYS = 366;
+    // Most tasks one batch read may ask for
+    private static final int MAX_BATCH_IDS = 1000;
+
     private final TaskRepository taskRepository;
+    private final TaskOccurrenceRepository taskOccurrenceRepository;
+    private final TaskViewRepository taskViewRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final TaskMapper taskMapper;
+    private final TaskHierarchyService taskHierarchyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<TaskDetailKey, TaskResponseDTO> taskDetails;
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository, CategoryRepository categoryRepository, TaskMapper taskMapper) {
+    public TaskService(TaskRepository taskRepository, TaskOccurrenceRepository taskOccurrenceRepository,
+                       TaskViewRepository taskViewRepository, UserRepository userRepository, CategoryRepository categoryRepository,
+                       TaskMapper taskMapper, TaskHierarchyService taskHierarchyService,
+                       ApplicationEventPublisher eventPublisher, SingleFlights singleFlights) {
         this.taskRepository = taskRepository;
+        this.taskOccurrenceRepository = taskOccurrenceRepository;
+        this.taskViewRepository = taskViewRepository;
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
         this.taskMapper = taskMapper;
+        this.taskHierarchyService = taskHierarchyService;
+        this.eventPublisher = eventPublisher;
+        this.taskDetails = singleFlights.readOnly("task-detail");
+    }
+
+    // Id of the authenticated user; every task query below is scoped to it
+    private Long getAuthenticatedUserId() {
+        return UserPrincipal.currentId();
+    }
+
+    private Task findOwnedTask(Long id) {
+        return taskRepository.findByIdAndUserId(id, getAuthenticatedUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
     }
 
-    // Get the currently authenticated user from security context
-    private String getAuthenticatedUser() {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> getUserTasks(com.taskflow.backend.dto.PageRequest pageRequest) {
+        Long userId = getAuthenticatedUserId();
+        org.springframework.data.domain.PageRequest page = toSpringPageRequest(pageRequest);
+        Page<Task> tasks = pageRequest.getLabels().isEmpty()
+                ? taskRepository.findByUserId(userId, page)
+                : taskRepository.findByUserIdAndLabels(userId, pageRequest.getLabels().toArray(String[]::new), page);
+        return tasks.map(taskMapper::toResponse);
+    }
 
-        if (principal instanceof org.springframework.security.core.userdetails.User userDetails) {
-            return userDetails.getUsername(); // this is the email
+    // Sparse variant: selects only the plan's columns
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> getUserTasks(com.taskflow.backend.dto.PageRequest pageRequest, TaskFieldPlan plan) {
+        if (plan == TaskFieldPlan.ALL) {
+            return getUserTasks(pageRequest);
         }
+        return taskRepository.findColumns(plan, getAuthenticatedUserId(), pageRequest.getLabels(),
+                        toSpringPageRequest(pageRequest))
+                .map(row -> taskMapper.toResponse(plan, row));
+    }
 
-        return null;
+    // Live and archived tasks in one listing (tasks_all); both halves are read in list order
+    // from their (user_id, created_at, id) indexes and merged
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> getUserTasksIncludingArchived(com.taskflow.backend.dto.PageRequest pageRequest) {
+        Long userId = getAuthenticatedUserId();
+        org.springframework.data.domain.PageRequest page = toSpringPageRequest(pageRequest);
+        return (pageRequest.getLabels().isEmpty()
+                ? taskViewRepository.findByUserId(userId, page)
+                : taskViewRepository.findByUserIdAndLabels(userId, pageRequest.getLabels().toArray(String[]::new), page))
+                .map(taskMapper::toResponse);
     }
 
-    public Page<TaskResponseDTO> getUserTasks(com.taskflow.backend.dto.PageRequest pageRequest) {
+    // Window listing: one-off tasks due in [from, to] merged with the occurrences of the user's
+    // recurring tasks, by due date. Occurrences are generated here, never stored; besides the
+    // page's own tasks only the series and their exceptions inside the window are read.
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> getUserTasks(com.taskflow.backend.dto.PageRequest pageRequest, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_WINDOW_DAYS) {
+            throw new ValidationException("to must be on or after from and within " + MAX_WINDOW_DAYS + " days of it");
+        }
+        Long userId = getAuthenticatedUserId();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        List<Object[]> dated = taskRepository.findDueBetween(userId, from.atStartOfDay(), end);
+        long[] datedIds = new long[dated.size()];
+        long[] datedDays = new long[dated.size()];
+        for (int i = 0; i < datedIds.length; i++) {
+            datedIds[i] = (Long) dated.get(i)[0];
+            datedDays[i] = ((LocalDateTime) dated.get(i)[1]).toLocalDate().toEpochDay();
+        }
+        List<OccurrenceSource> sources = new ArrayList<>();
+        sources.add(new DatedTaskSource(datedIds, datedDays));
+
+        Map<Long, Task> series = taskRepository.findOpenSeries(userId, end).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<Long, Map<LocalDate, TaskOccurrence>> exceptions = series.isEmpty() ? Map.of()
+                : taskOccurrenceRepository.findByTaskIdInAndOccurrenceDateBetween(series.keySet(), from, to).stream()
+                        .collect(Collectors.groupingBy(TaskOccurrence::getTaskId,
+                                Collectors.toMap(TaskOccurrence::getOccurrenceDate, Function.identity())));
+        for (Task task : series.values()) {
+            long[] cancelled = exceptions.getOrDefault(task.getId(), Map.of()).values().stream()
+                    .filter(TaskOccurrence::isCancelled)
+                    .mapToLong(exception -> exception.getOccurrenceDate().toEpochDay())
+                    .sorted()
+                    .toArray();
+            sources.add(RecurrenceRule.parse(task.getRecurrence())
+                    .cursor(task.getId(), task.getDueDate().toLocalDate(), to)
+                    .excluding(cancelled)
+                    .seek(from.toEpochDay()));
+        }
+
+        int size = pageRequest.getSize();
+        OccurrenceMerge.Window window = OccurrenceMerge.page(sources, (long) pageRequest.getPage() * size, size);
+
+        List<Long> pageTaskIds = window.slots().stream()
+                .filter(slot -> !slot.recurring())
+                .map(OccurrenceMerge.Slot::taskId)
+                .toList();
+        Map<Long, Task> pageTasks = new HashMap<>();
+        taskRepository.findAllById(pageTaskIds).forEach(task -> pageTasks.put(task.getId(), task));
+        List<TaskResponseDTO> content = window.slots().stream()
+                .map(slot -> {
+                    if (!slot.recurring()) {
+                        return taskMapper.toResponse(pageTasks.get(slot.taskId()));
+                    }
+                    LocalDate date = LocalDate.ofEpochDay(slot.epochDay());
+                    return taskMapper.toOccurrenceResponse(series.get(slot.taskId()), date,
+                            exceptions.getOrDefault(slot.taskId(), Map.of()).get(date));
+                })
+                .toList();
+        return new PageImpl<>(content, org.springframework.data.domain.PageRequest.of(pageRequest.getPage(), size), window.total());
+    }
+
+    private org.springframework.data.domain.PageRequest toSpringPageRequest(com.taskflow.backend.dto.PageRequest pageRequest) {
         Sort.Direction direction = Sort.Direction.fromString(pageRequest.getDirection().toUpperCase());
         Sort sort = pageRequest.getSort() != null ? 
             Sort.by(direction, pageRequest.getSort()) : 
             Sort.by(Sort.Direction.DESC, "createdAt");
 
-        org.springframework.data.domain.PageRequest springPageRequest = 
-            org.springframework.data.domain.PageRequest.of(pageRequest.getPage(), pageRequest.getSize(), sort);
-
-        Page<Task> tasks = taskRepository.findAll(springPageRequest);
-        return tasks.map(taskMapper::toResponse);
+        return org.springframework.data.domain.PageRequest.of(pageRequest.getPage(), pageRequest.getSize(), sort);
     }
 
     public TaskResponseDTO getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        return getTaskById(id, TaskFieldPlan.ALL);
+    }
+
+    // Concurrent reads of the same task by the same user (with the same fields) share one query
+    public TaskResponseDTO getTaskById(Long id, TaskFieldPlan plan) {
+        Long userId = getAuthenticatedUserId();
+        return taskDetails.execute(new TaskDetailKey(userId, id, plan), () -> plan == TaskFieldPlan.ALL
+                ? taskMapper.toResponse(findOwnedTask(id))
+                : taskRepository.findColumnsById(plan, id, userId)
+                        .map(row -> taskMapper.toResponse(plan, row))
+                        .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id)));
+    }
+
+    // A task and all of its subtasks down to maxDepth levels, parents before their subtasks;
+    // one query on the closure table
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getSubtree(Long id, int maxDepth) {
+        if (maxDepth < 0) {
+            throw new ValidationException("maxDepth must not be negative");
+        }
+        findOwnedTask(id);
+        return taskRepository.findSubtree(id, maxDepth).stream()
+                .map(taskMapper::toResponse)
+                .toList();
+    }
+
+    // Tasks by id in one query, in the order asked for; ids that do not exist or belong to
+    // someone else are reported as missing. Dependencies take one more query; assignees and
+    // categories come with the tasks. Each referenced entity is in the response once.
+    @Transactional(readOnly = true)
+    public TaskBatchResponse getTasks(List<Long> ids, Set<TaskExpansion> expand) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.isEmpty() || requested.size() > MAX_BATCH_IDS) {
+            throw new ValidationException("ids must name between 1 and " + MAX_BATCH_IDS + " tasks");
+        }
+        Long userId = getAuthenticatedUserId();
+        Map<Long, Task> found = taskRepository.findWithReferences(requested, userId).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Task> tasks = requested.stream().map(found::get).filter(Objects::nonNull).toList();
+        List<Long> missing = requested.stream().filter(id -> !found.containsKey(id)).toList();
+
+        List<Task> dependencies = List.of();
+        if (expand.contains(TaskExpansion.DEPENDENCIES)) {
+            Set<Long> dependencyIds = tasks.stream()
+                    .flatMap(task -> task.getDependencies().stream())
+                    .filter(id -> id != null && !found.containsKey(id))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            dependencies = dependencyIds.isEmpty() ? List.of()
+                    : taskRepository.findWithReferences(dependencyIds, userId).stream()
+                            .sorted(Comparator.comparing(Task::getId))
+                            .toList();
+        }
+
+        boolean withCategories = expand.contains(TaskExpansion.CATEGORY);
+        Function<Task, TaskResponseDTO> toResponse = task -> {
+            TaskResponseDTO response = taskMapper.toResponse(task);
+            if (withCategories && task.getCategory() != null) {
+                response.setCategoryId(task.getCategory().getId());
+            }
+            return response;
+        };
+        List<Task> referencing = new ArrayList<>(tasks);
+        referencing.addAll(dependencies);
+        return new TaskBatchResponse(
+                tasks.stream().map(toResponse).toList(),
+                missing,
+                expand.contains(TaskExpansion.DEPENDENCIES) ? byId(dependencies, Task::getId, toResponse) : null,
+                expand.contains(TaskExpansion.ASSIGNEE)
+                        ? byId(referencing.stream().map(Task::getAssignee).filter(Objects::nonNull).toList(),
+                                User::getId, user -> new UserSummaryDTO(user.getId(), user.getName()))
+                        : null,
+                withCategories
+                        ? byId(referencing.stream().map(Task::getCategory).filter(Objects::nonNull).toList(),
+                                Category::getId, category -> new CategorySummaryDTO(category.getId(), category.getName()))
+                        : null);
+    }
+
+    // First occurrence of each id wins
+    private static <T, R> Map<Long, R> byId(List<T> entities, Function<T, Long> id, Function<T, R> mapper) {
+        Map<Long, R> result = new LinkedHashMap<>();
+        entities.forEach(entity -> result.computeIfAbsent(id.apply(entity), key -> mapper.apply(entity)));
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskResponseDTO getTaskByIdIncludingArchived(Long id) {
+        return taskViewRepository.findByIdAndUserId(id, getAuthenticatedUserId())
+                .map(taskMapper::toResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        return taskMapper.toResponse(task);
     }
 
     @Transactional
@@ -79,12 +306,13 @@ public class TaskService {
         if (request.getDueDate() != null) {
             task.setDueDate(request.getDueDate().atStartOfDay());
         }
+        normalizeRecurrence(task);
         task.setCompleted(request.isCompleted());
-        // Set the current authenticated user
-        String email = getAuthenticatedUser();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("User not found with email: " + email));
-        task.setUser(user);
+        // Set the current authenticated user (reference only, the id is all the insert needs)
+        task.setUser(userRepository.getReferenceById(getAuthenticatedUserId()));
+        if (request.getParentId() != null) {
+            task.setParentId(findOwnedTask(request.getParentId()).getId());
+        }
         // Associate category if provided
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
@@ -93,13 +321,14 @@ public class TaskService {
             task.setCategory(category);
         }
         Task saved = taskRepository.save(task);
+        taskHierarchyService.attach(getAuthenticatedUserId(), saved.getId(), saved.getParentId());
+        eventPublisher.publishEvent(TaskChangedEvent.saved(saved));
         return taskMapper.toResponse(saved);
     }
 
     @Transactional
     public TaskResponseDTO updateTask(Long id, TaskRequest request) {
-        Task existingTask = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        Task existingTask = findOwnedTask(id);
         Optional<User> assigneeOpt = Optional.empty();
         if (request.getAssigneeId() != null) {
             assigneeOpt = userRepository.findById(request.getAssigneeId());
@@ -108,10 +337,13 @@ public class TaskService {
         updatedTask.setId(existingTask.getId());
         updatedTask.setUser(existingTask.getUser());
         updatedTask.setCreatedAt(existingTask.getCreatedAt());
+        updatedTask.setParentId(existingTask.getParentId());
+        keepRankInSameColumn(existingTask, updatedTask);
         // Set due date at start of day
         if (request.getDueDate() != null) {
             updatedTask.setDueDate(request.getDueDate().atStartOfDay());
         }
+        normalizeRecurrence(updatedTask);
         updatedTask.setCompleted(request.isCompleted());
         // Update category association
         if (request.getCategoryId() != null) {
@@ -123,30 +355,247 @@ public class TaskService {
             updatedTask.setCategory(null);
         }
         Task saved = taskRepository.save(updatedTask);
+        taskHierarchyService.evictPathsAfterCommit(List.of(id));
+        eventPublisher.publishEvent(TaskChangedEvent.saved(saved));
         return taskMapper.toResponse(saved);
     }
 
+    // Merge-patches the loaded task in place. Only values that differ are set, so the flush
+    // (Task is @DynamicUpdate) writes just those columns, or nothing at all; the category and
+    // assignee are only looked up when their id changes.
+    @Transactional
+    public TaskResponseDTO patchTask(Long id, TaskPatchRequest patch) {
+        if (patch.has("parentId")) {
+            throw new ValidationException("parentId cannot be patched; use PUT /api/v1/tasks/{id}/parent");
+        }
+        Task task = findOwnedTask(id);
+        boolean changed = false;
+        boolean rollupChanged = false;
+
+        if (patch.has("title")) {
+            changed |= apply(task.getTitle(), patch.getTitle(), task::setTitle);
+        }
+        if (patch.has("description")) {
+            changed |= apply(task.getDescription(), patch.getDescription(), task::setDescription);
+        }
+        if (patch.has("dueDate")) {
+            LocalDateTime dueDate = patch.getDueDate() != null ? patch.getDueDate().atStartOfDay() : null;
+            changed |= apply(task.getDueDate(), dueDate, task::setDueDate);
+        }
+        if (patch.has("priority")) {
+            changed |= apply(task.getPriority(), toPriority(patch.getPriority()), task::setPriority);
+        }
+        if (patch.has("completed")) {
+            if (patch.getCompleted() == null) {
+                throw new ValidationException("completed cannot be null");
+            }
+            rollupChanged |= apply(task.isCompleted(), patch.getCompleted(), task::setCompleted);
+        }
+        if (patch.has("status") && apply(task.getStatus(), patch.getStatus(), task::setStatus)) {
+            // A new column: unranked until the rebalancer places it at the end
+            task.setRank(null);
+            changed = true;
+        }
+        if (patch.has("type")) {
+            changed |= apply(task.getType(), patch.getType(), task::setType);
+        }
+        if (patch.has("storyPoints")) {
+            rollupChanged |= apply(task.getStoryPoints(), patch.getStoryPoints(), task::setStoryPoints);
+        }
+        if (patch.has("labels")) {
+            List<String> labels = patch.getLabels() != null ? patch.getLabels() : List.of();
+            changed |= apply(task.getLabels(), labels, value -> task.setLabels(new ArrayList<>(value)));
+        }
+        if (patch.has("dependencies")) {
+            List<Long> dependencies = patch.getDependencies() != null ? patch.getDependencies() : List.of();
+            changed |= apply(task.getDependencies(), dependencies, value -> task.setDependencies(new ArrayList<>(value)));
+        }
+        if (patch.has("recurrence")) {
+            String recurrence = patch.getRecurrence() == null || patch.getRecurrence().isBlank()
+                    ? null : RecurrenceRule.parse(patch.getRecurrence()).toString();
+            changed |= apply(task.getRecurrence(), recurrence, task::setRecurrence);
+        }
+        if (task.getRecurrence() != null && task.getDueDate() == null) {
+            throw new ValidationException("A recurring task needs a due date (the first occurrence)");
+        }
+        if (patch.has("categoryId")) {
+            Long current = task.getCategory() != null ? task.getCategory().getId() : null;
+            if (!Objects.equals(current, patch.getCategoryId())) {
+                task.setCategory(patch.getCategoryId() == null ? null : categoryRepository.findById(patch.getCategoryId())
+                        .orElseThrow(() -> new ResourceNotFoundException(
+                                "Category not found with id: " + patch.getCategoryId())));
+                changed = true;
+            }
+        }
+        if (patch.has("assigneeId")) {
+            Long current = task.getAssignee() != null ? task.getAssignee().getId() : null;
+            if (!Objects.equals(current, patch.getAssigneeId())) {
+                task.setAssignee(patch.getAssigneeId() == null ? null : userRepository.findById(patch.getAssigneeId())
+                        .orElseThrow(() -> new ResourceNotFoundException(
+                                "User not found with id: " + patch.getAssigneeId())));
+                changed = true;
+            }
+        }
+
+        if (!changed && !rollupChanged) {
+            return taskMapper.toResponse(task);
+        }
+        if (rollupChanged) {
+            taskHierarchyService.evictPathsAfterCommit(List.of(id));
+        }
+        // Flushed now so the response carries the new updatedAt
+        taskRepository.flush();
+        eventPublisher.publishEvent(TaskChangedEvent.saved(task));
+        return taskMapper.toResponse(task);
+    }
+
+    private static <T> boolean apply(T current, T value, Consumer<T> setter) {
+        if (Objects.equals(current, value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    private static Priority toPriority(String priority) {
+        if (priority == null) {
+            return null;
+        }
+        try {
+            return Priority.valueOf(priority.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Unknown priority: " + priority);
+        }
+    }
+
+    // Deletes the task together with its subtasks
     @Transactional
     public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        taskRepository.delete(task);
+        Task task = findOwnedTask(id);
+        deleteSubtrees(List.of(task));
     }
 
     @Transactional
     public List<Task> createBulkTasks(List<Task> tasks) {
-        // TODO: Set current user for all tasks
-        return taskRepository.saveAll(tasks);
+        User owner = userRepository.getReferenceById(getAuthenticatedUserId());
+        tasks.forEach(task -> {
+            // Ids are ignored: saving an entity with an id would overwrite that task
+            task.setId(null);
+            task.setRank(null);
+            task.setParentId(null);
+            task.setUser(owner);
+            normalizeRecurrence(task);
+        });
+        List<Task> saved = taskRepository.saveAll(tasks);
+        taskHierarchyService.attachRoots(saved.stream().map(Task::getId).toList());
+        return publishSaved(saved);
     }
 
     @Transactional
     public List<Task> updateBulkTasks(List<Task> tasks) {
-        // TODO: Validate and update tasks
-        return taskRepository.saveAll(tasks);
+        // Every task must exist and belong to the caller, otherwise nothing is updated
+        Long userId = getAuthenticatedUserId();
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        Map<Long, Task> existing = ids.contains(null) ? Map.of()
+                : taskRepository.findByIdInAndUserId(ids, userId).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+        if (ids.contains(null) || existing.size() != Set.copyOf(ids).size()) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        User owner = userRepository.getReferenceById(userId);
+        tasks.forEach(task -> {
+            keepRankInSameColumn(existing.get(task.getId()), task);
+            task.setParentId(existing.get(task.getId()).getParentId());
+            task.setUser(owner);
+            normalizeRecurrence(task);
+        });
+        taskHierarchyService.evictPathsAfterCommit(existing.keySet());
+        return publishSaved(taskRepository.saveAll(tasks));
     }
 
+    // Ids that do not exist or belong to someone else are ignored; subtasks go with their parents
     @Transactional
     public void deleteBulkTasks(List<Long> taskIds) {
-        taskRepository.deleteAllById(taskIds);
+        deleteSubtrees(taskRepository.findByIdInAndUserId(taskIds, getAuthenticatedUserId()));
+    }
+
+    // Subtasks are always owned by the owner of their root, and are deleted before their parents
+    // (tasks.parent_id has no cascade, task_closure rows go with the tasks)
+    private void deleteSubtrees(List<Task> roots) {
+        List<Long> rootIds = roots.stream().map(Task::getId).toList();
+        List<Long> ids = taskHierarchyService.subtreeIdsDeepestFirst(getAuthenticatedUserId(), rootIds);
+        taskHierarchyService.evictPathsAfterCommit(ids);
+        Map<Long, Task> tasks = new HashMap<>();
+        roots.forEach(task -> tasks.put(task.getId(), task));
+        if (tasks.size() < ids.size()) {
+            taskRepository.findAllById(ids).forEach(task -> tasks.putIfAbsent(task.getId(), task));
+        }
+        List<Task> ordered = ids.stream().map(tasks::get).filter(Objects::nonNull).toList();
+        taskRepository.deleteAll(ordered);
+        ordered.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.deleted(task)));
+    }
+
+    private List<Task> publishSaved(List<Task> tasks) {
+        tasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.saved(task)));
+        return tasks;
+    }
+
+    // Stores the user's changes to one occurrence of a recurring task as an exception
+    @Transactional
+    public TaskResponseDTO updateOccurrence(Long id, LocalDate date, OccurrenceRequest request) {
+        Task series = findOccurrenceSeries(id, date);
+        TaskOccurrence exception = taskOccurrenceRepository.findByTaskIdAndOccurrenceDate(id, date)
+                .orElseGet(TaskOccurrence::new);
+        exception.setTaskId(id);
+        exception.setOccurrenceDate(date);
+        exception.setCompleted(request.isCompleted());
+        exception.setCancelled(request.isCancelled());
+        exception.setTitle(request.getTitle());
+        exception.setDescription(request.getDescription());
+        exception.setStatus(request.getStatus());
+        TaskOccurrence saved = taskOccurrenceRepository.save(exception);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(series));
+        return taskMapper.toOccurrenceResponse(series, date, saved);
+    }
+
+    // Drops the exception, so the occurrence is generated from the series again
+    @Transactional
+    public void resetOccurrence(Long id, LocalDate date) {
+        Task series = findOccurrenceSeries(id, date);
+        taskOccurrenceRepository.findByTaskIdAndOccurrenceDate(id, date).ifPresent(taskOccurrenceRepository::delete);
+        eventPublisher.publishEvent(TaskChangedEvent.saved(series));
+    }
+
+    private Task findOccurrenceSeries(Long id, LocalDate date) {
+        Task series = findOwnedTask(id);
+        if (series.getRecurrence() == null) {
+            throw new ValidationException("Task " + id + " is not recurring");
+        }
+        if (!RecurrenceRule.parse(series.getRecurrence()).isOccurrence(series.getDueDate().toLocalDate(), date)) {
+            throw new ResourceNotFoundException("Task " + id + " has no occurrence on " + date);
+        }
+        return series;
+    }
+
+    // A task keeps its board position while its status is unchanged and goes to the bottom
+    // (unranked) of its new column otherwise
+    private static void keepRankInSameColumn(Task existing, Task updated) {
+        updated.setRank(Objects.equals(existing.getStatus(), updated.getStatus()) ? existing.getRank() : null);
+    }
+
+    // Validates the rule and stores it in canonical form; blank means not recurring
+    private void normalizeRecurrence(Task task) {
+        String recurrence = task.getRecurrence();
+        if (recurrence == null || recurrence.isBlank()) {
+            task.setRecurrence(null);
+            return;
+        }
+        if (task.getDueDate() == null) {
+            throw new ValidationException("A recurring task needs a due date (the first occurrence)");
+        }
+        task.setRecurrence(RecurrenceRule.parse(recurrence).toString());
+    }
+
+    private record TaskDetailKey(Long userId, Long taskId, TaskFieldPlan plan) {
     }
 }
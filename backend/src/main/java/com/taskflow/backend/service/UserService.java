@@ -15,21 +15,26 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import com.taskflow.backend.dto.UserSummaryDTO;
+import com.taskflow.backend.singleflight.SingleFlight;
+import com.taskflow.backend.singleflight.SingleFlights;
 
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    // The same list for every user; concurrent loads share one query
+    private final SingleFlight<String, List<UserSummaryDTO>> assignableUsers;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, SingleFlights singleFlights) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.assignableUsers = singleFlights.readOnly("assignable-users");
     }
 
+    @Transactional(readOnly = true)
     public User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
@@ -71,6 +76,7 @@ public class UserService {
         return userRepository.save(currentUser);
     }
 
+    @Transactional(readOnly = true)
     public Map<String, Object> getUserPreferences() {
         User user = getCurrentUser();
         return user.getSettings();
@@ -119,8 +125,8 @@ public class UserService {
     }
 
     public List<UserSummaryDTO> getAssignableUsers() {
-        return userRepository.findByIsActiveTrue().stream()
+        return assignableUsers.execute("all", () -> userRepository.findByIsActiveTrue().stream()
             .map(user -> new UserSummaryDTO(user.getId(), user.getName()))
-            .collect(Collectors.toList());
+            .toList());
     }
 }
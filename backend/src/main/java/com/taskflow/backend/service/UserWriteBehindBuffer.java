@@ -0,0 +1,77 @@
+package com.taskflow.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// Buffers non-critical user column updates (currently last_login) in memory and writes
+// them periodically. Repeated logins by the same user between flushes collapse into one
+// value, and each flush is a single UPDATE for all pending users.
+@Component
+public class UserWriteBehindBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserWriteBehindBuffer.class);
+
+    // unnest() joins the pending values against users in one statement; the last_login guard
+    // keeps an older buffered value (e.g. from another node) from overwriting a newer one
+    private static final String FLUSH_LAST_LOGIN_SQL =
+            "UPDATE users u SET last_login = v.last_login " +
+            "FROM unnest(?::text[], ?::timestamp[]) AS v(email, last_login) " +
+            "WHERE u.email = v.email AND (u.last_login IS NULL OR u.last_login < v.last_login)";
+
+    private final JdbcTemplate jdbcTemplate;
+    // email -> most recent login time not yet written
+    private final ConcurrentMap<String, LocalDateTime> pendingLastLogins = new ConcurrentHashMap<>();
+
+    public UserWriteBehindBuffer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void recordLogin(String email, LocalDateTime loggedInAt) {
+        pendingLastLogins.merge(email, loggedInAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    public int pendingCount() {
+        return pendingLastLogins.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.users.write-behind-interval:5000}")
+    public void flush() {
+        if (pendingLastLogins.isEmpty()) {
+            return;
+        }
+        List<String> emails = new ArrayList<>();
+        List<String> timestamps = new ArrayList<>();
+        for (String email : pendingLastLogins.keySet()) {
+            LocalDateTime loggedInAt = pendingLastLogins.remove(email);
+            if (loggedInAt != null) {
+                emails.add(email);
+                timestamps.add(loggedInAt.toString());
+            }
+        }
+        try {
+            jdbcTemplate.update(FLUSH_LAST_LOGIN_SQL, emails.toArray(String[]::new), timestamps.toArray(String[]::new));
+        } catch (RuntimeException ex) {
+            // Put the values back so the next flush retries them, unless newer ones arrived meanwhile
+            for (int i = 0; i < emails.size(); i++) {
+                recordLogin(emails.get(i), LocalDateTime.parse(timestamps.get(i)));
+            }
+            logger.warn("Failed to flush {} buffered last-login updates; will retry", emails.size(), ex);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
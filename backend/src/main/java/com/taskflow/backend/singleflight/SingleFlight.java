@@ -0,0 +1,95 @@
+package com.taskflow.backend.singleflight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Collapses concurrent identical reads: the first caller for a key (the leader) runs the
+// load, callers arriving while it runs wait for and share its result, or its exception.
+// Nothing is kept once the load finishes, so this never serves stale data; it only stops
+// a burst of identical requests from becoming a burst of identical queries.
+//
+// A follower waits at most maxWaitMillis and then loads on its own. Callers already inside
+// a transaction are never coalesced, since they may see (or need) their own uncommitted writes.
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final long maxWaitMillis;
+    private final TransactionOperations transaction;
+    private final Counter leaders;
+    private final Counter collapsed;
+    private final Counter timedOut;
+
+    // Loads run through transaction (e.g. a read-only TransactionTemplate)
+    public SingleFlight(String name, long maxWaitMillis, TransactionOperations transaction, MeterRegistry meterRegistry) {
+        this.maxWaitMillis = maxWaitMillis;
+        this.transaction = transaction;
+        this.leaders = counter(meterRegistry, name, "leader");
+        this.collapsed = counter(meterRegistry, name, "collapsed");
+        this.timedOut = counter(meterRegistry, name, "timeout");
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = calls.putIfAbsent(key, call);
+        if (running == null) {
+            leaders.increment();
+            try {
+                V value = load(loader);
+                call.complete(value);
+                return value;
+            } catch (RuntimeException | Error ex) {
+                call.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                calls.remove(key, call);
+            }
+        }
+
+        try {
+            V value = running.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+            collapsed.increment();
+            return value;
+        } catch (ExecutionException ex) {
+            collapsed.increment();
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            timedOut.increment();
+            return load(loader);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an identical request", ex);
+        }
+    }
+
+    private V load(Supplier<V> loader) {
+        return transaction.execute(status -> loader.get());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("taskflow.singleflight.calls")
+                .description("Coalesced reads by outcome: leader (queried), collapsed (shared a leader's result) or timeout")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
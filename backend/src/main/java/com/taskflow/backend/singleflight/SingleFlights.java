@@ -0,0 +1,32 @@
+package com.taskflow.backend.singleflight;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Creates the services' SingleFlight instances with the shared settings
+@Component
+public class SingleFlights {
+
+    private final TransactionOperations readOnly;
+    private final MeterRegistry meterRegistry;
+    private final long maxWaitMillis;
+
+    public SingleFlights(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                         @Value("${app.single-flight.max-wait:2000}") long maxWaitMillis) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        this.readOnly = template;
+        this.meterRegistry = meterRegistry;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    // Loads run in their own read-only transaction (so they can go to the read replica)
+    public <K, V> SingleFlight<K, V> readOnly(String name) {
+        return new SingleFlight<>(name, maxWaitMillis, readOnly, meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskflow.backend.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.task-stream")
+public class TaskStreamProperties {
+
+    // R2DBC connections; a connection is held for as long as a listing is being streamed
+    private int poolMaxSize = 20;
+    // Rows fetched per round trip, and so at most buffered per listing
+    private int fetchSize = 100;
+    // Largest limit a listing may ask for
+    private int maxLimit = 10_000;
+}
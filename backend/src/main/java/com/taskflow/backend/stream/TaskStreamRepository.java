@@ -0,0 +1,145 @@
+package com.taskflow.backend.stream;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.backend.dto.TaskResponseDTO;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Reads tasks for the v2 API over R2DBC: rows are mapped to TaskResponseDTOs as they arrive
+// and the next batch of fetch-size rows is only requested once the subscriber wants it.
+// The pool connects to the primary with the JDBC datasource's settings; replica routing is
+// a JDBC DataSource and does not apply here.
+@Repository
+public class TaskStreamRepository {
+
+    private static final String SELECT = "SELECT t.id, t.title, t.description, t.status, t.rank, t.parent_id, "
+            + "t.priority, t.type, t.story_points, t.completed, t.labels, t.dependencies, t.assignee_id, "
+            + "a.name AS assignee_name, t.due_date, t.recurrence, t.created_at, t.updated_at "
+            + "FROM tasks t LEFT JOIN users a ON a.id = t.assignee_id ";
+    // Newest first, as GET /api/v1/tasks by default; walks idx_tasks_user_created backwards
+    private static final String ORDER = "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit";
+    private static final String LIST_SQL = SELECT + "WHERE t.user_id = :userId " + ORDER;
+    // idx_tasks_user_labels; the parameter is sent as text[], the column is varchar[]
+    private static final String LIST_BY_LABELS_SQL = SELECT
+            + "WHERE t.user_id = :userId AND t.labels @> CAST(:labels AS varchar[]) " + ORDER;
+    private static final String FIND_SQL = SELECT + "WHERE t.id = :id AND t.user_id = :userId";
+
+    private static final String JDBC_PREFIX = "jdbc:postgresql:";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient databaseClient;
+    private final TaskStreamProperties properties;
+
+    public TaskStreamRepository(DataSourceProperties dataSourceProperties, TaskStreamProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(
+                        ConnectionFactories.get(options(dataSourceProperties)))
+                .name("task-stream")
+                .initialSize(0)
+                .maxSize(properties.getPoolMaxSize())
+                .maxIdleTime(Duration.ofMinutes(10))
+                .build());
+        this.databaseClient = DatabaseClient.create(pool);
+        pool.getMetrics().ifPresent(metrics -> registerMetrics(metrics, meterRegistry));
+    }
+
+    public Flux<TaskResponseDTO> findByUserId(Long userId, List<String> labels, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = labels.isEmpty()
+                ? databaseClient.sql(LIST_SQL)
+                : databaseClient.sql(LIST_BY_LABELS_SQL).bind("labels", labels.toArray(new String[0]));
+        return spec.bind("userId", userId)
+                .bind("limit", limit)
+                .filter((statement, next) -> next.execute(statement.fetchSize(properties.getFetchSize())))
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    public Mono<TaskResponseDTO> findByIdAndUserId(Long id, Long userId) {
+        return databaseClient.sql(FIND_SQL)
+                .bind("id", id)
+                .bind("userId", userId)
+                .map((row, metadata) -> toResponse(row))
+                .one();
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.dispose();
+    }
+
+    // The fields TaskMapper.toResponse fills for a live task
+    private static TaskResponseDTO toResponse(Row row) {
+        TaskResponseDTO dto = new TaskResponseDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setStatus(row.get("status", String.class));
+        dto.setRank(row.get("rank", String.class));
+        dto.setParentId(row.get("parent_id", Long.class));
+        dto.setPriority(row.get("priority", String.class));
+        dto.setType(row.get("type", String.class));
+        dto.setStoryPoints(row.get("story_points", Integer.class));
+        dto.setCompleted(row.get("completed", Boolean.class));
+        dto.setLabels(Arrays.asList(row.get("labels", String[].class)));
+        dto.setDependencies(Arrays.asList(row.get("dependencies", Long[].class)));
+        dto.setAssigneeId(row.get("assignee_id", Long.class));
+        dto.setAssigneeName(row.get("assignee_name", String.class));
+        dto.setDueDate(row.get("due_date", LocalDateTime.class));
+        dto.setRecurrence(row.get("recurrence", String.class));
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return dto;
+    }
+
+    // spring.datasource.url and credentials, as an r2dbc:postgresql URL
+    private static ConnectionFactoryOptions options(DataSourceProperties dataSourceProperties) {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith(JDBC_PREFIX)) {
+            throw new IllegalStateException("Streaming reads need a PostgreSQL datasource, not " + url);
+        }
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions
+                .parse("r2dbc:postgresql:" + url.substring(JDBC_PREFIX.length()))
+                .mutate();
+        if (dataSourceProperties.determineUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.determinePassword());
+        }
+        return options.build();
+    }
+
+    private static void registerMetrics(PoolMetrics metrics, MeterRegistry meterRegistry) {
+        Gauge.builder("taskflow.task-stream.connections", metrics, PoolMetrics::acquiredSize)
+                .description("R2DBC connections of the streaming read pool, by state")
+                .tag("state", "acquired")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.task-stream.connections", metrics, PoolMetrics::idleSize)
+                .description("R2DBC connections of the streaming read pool, by state")
+                .tag("state", "idle")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.task-stream.connections", metrics, PoolMetrics::pendingAcquireSize)
+                .description("R2DBC connections of the streaming read pool, by state")
+                .tag("state", "pending")
+                .register(meterRegistry);
+    }
+}
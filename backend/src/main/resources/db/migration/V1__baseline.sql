@@ -0,0 +1,66 @@
+-- Schema as previously created by Hibernate (ddl-auto=update). Existing databases are
+-- baselined at this version and skip it (spring.flyway.baseline-on-migrate); IF NOT EXISTS
+-- keeps it safe to run against a partially created schema as well.
+
+create table if not exists users (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    role varchar(255) not null,
+    auth_provider varchar(255),
+    github_id varchar(255),
+    is_active boolean not null,
+    settings jsonb,
+    last_login timestamp(6),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null
+);
+
+create table if not exists categories (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null unique,
+    created_at timestamp(6)
+);
+
+create table if not exists tasks (
+    id bigint generated by default as identity primary key,
+    title varchar(255),
+    description varchar(255),
+    due_date timestamp(6),
+    priority varchar(255) check (priority in ('LOW', 'MEDIUM', 'HIGH')),
+    completed boolean not null,
+    status varchar(255),
+    type varchar(255),
+    story_points integer,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    user_id bigint constraint FK6s1ob9k4ihi75xbxe2w0ylsdh references users,
+    category_id bigint constraint FK19nbrmutuqhlidppwns1wmfro references categories,
+    assignee_id bigint constraint FKekr1dgiqktpyoip3qmp6lxsit references users
+);
+
+create table if not exists task_labels (
+    task_id bigint not null constraint FK7wi3dfqb8gx9kiysuy980sbus references tasks,
+    labels varchar(255)
+);
+
+create table if not exists task_dependencies (
+    task_id bigint not null constraint FKerlktvi2bud6uauih348u0loj references tasks,
+    dependencies bigint
+);
+
+create table if not exists refresh_tokens (
+    id bigint generated by default as identity primary key,
+    jti varchar(36) not null unique,
+    family_id varchar(36) not null,
+    subject varchar(255) not null,
+    issued_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    rotated_at timestamp(6),
+    replaced_by varchar(36),
+    revoked_at timestamp(6)
+);
+
+create index if not exists idx_refresh_tokens_family_id on refresh_tokens (family_id);
+create index if not exists idx_refresh_tokens_revoked_at on refresh_tokens (revoked_at);
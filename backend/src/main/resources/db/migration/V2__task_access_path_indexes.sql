@@ -0,0 +1,20 @@
+-- Indexes for the task access paths. PostgreSQL does not index foreign keys on its own,
+-- so before this every per-user or per-task lookup was a sequential scan.
+
+-- A user's tasks newest first (default list order); id makes the order total for paging
+create index if not exists idx_tasks_user_created on tasks (user_id, created_at, id);
+
+-- Tasks assigned to someone, usually filtered by status (board columns)
+create index if not exists idx_tasks_assignee_status on tasks (assignee_id, status);
+
+-- Upcoming and overdue work: only incomplete tasks are ever queried by due date,
+-- so completed ones are left out of these indexes entirely
+create index if not exists idx_tasks_user_due_open on tasks (user_id, due_date) where completed = false;
+create index if not exists idx_tasks_due_open on tasks (due_date) where completed = false;
+
+-- Collection tables: loading a page's labels/dependencies by task, and reverse lookups
+-- (tasks with a label, tasks depending on a task)
+create index if not exists idx_task_labels_task on task_labels (task_id);
+create index if not exists idx_task_labels_label on task_labels (labels, task_id);
+create index if not exists idx_task_dependencies_task on task_dependencies (task_id);
+create index if not exists idx_task_dependencies_dependency on task_dependencies (dependencies, task_id);
@@ -0,0 +1,3 @@
+-- Incomplete tasks changed recently: the reminder scheduler polls this to pick up due date
+-- changes made on other nodes without rescanning its whole loaded window
+create index if not exists idx_tasks_updated_open on tasks (updated_at) where completed = false;
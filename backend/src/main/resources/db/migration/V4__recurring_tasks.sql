@@ -0,0 +1,21 @@
+-- Recurring tasks: the series is one tasks row with a recurrence rule (its due date is the
+-- first occurrence). Occurrences are generated on read; only the ones a user changed,
+-- completed or cancelled are stored, as exceptions.
+alter table tasks add column if not exists recurrence varchar(255);
+
+create table if not exists task_occurrences (
+    id bigint generated by default as identity primary key,
+    task_id bigint not null constraint fk_task_occurrences_task references tasks on delete cascade,
+    occurrence_date date not null,
+    completed boolean not null default false,
+    cancelled boolean not null default false,
+    title varchar(255),
+    description varchar(255),
+    status varchar(255),
+    updated_at timestamp(6),
+    constraint uk_task_occurrences_task_date unique (task_id, occurrence_date)
+);
+
+-- Window listings: a user's dated one-off tasks by due date, and the user's series
+create index if not exists idx_tasks_user_due_single on tasks (user_id, due_date) where recurrence is null;
+create index if not exists idx_tasks_user_recurring on tasks (user_id) where recurrence is not null;
@@ -0,0 +1,10 @@
+-- Position of a task within its board column (user, status): a fractional key compared
+-- byte-wise (RankKeys), hence collation "C" whatever the database default is. New tasks
+-- start unranked at the bottom of their column until the rebalancer ranks them.
+alter table tasks add column if not exists rank varchar(255) collate "C";
+
+-- Ordered column reads; unique so two tasks can never share a position
+create unique index if not exists uk_tasks_user_status_rank on tasks (user_id, status, rank);
+
+-- Columns with unranked tasks, for the rebalancer
+create index if not exists idx_tasks_unranked on tasks (user_id, status) where rank is null and status is not null;
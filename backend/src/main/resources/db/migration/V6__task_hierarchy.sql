@@ -0,0 +1,22 @@
+-- Subtasks. parent_id is the tree itself; task_closure holds one row per (ancestor,
+-- descendant) pair including each task with itself at depth 0, so a whole subtree, its size
+-- and its rollups are one index range scan on the ancestor instead of a recursive walk.
+-- Both are maintained by TaskHierarchyService in the transaction that changes the tree.
+alter table tasks add column if not exists parent_id bigint constraint fk_tasks_parent references tasks;
+
+create index if not exists idx_tasks_parent on tasks (parent_id) where parent_id is not null;
+
+create table if not exists task_closure (
+    ancestor_id bigint not null constraint fk_task_closure_ancestor references tasks on delete cascade,
+    descendant_id bigint not null constraint fk_task_closure_descendant references tasks on delete cascade,
+    depth integer not null,
+    constraint pk_task_closure primary key (ancestor_id, descendant_id)
+);
+
+-- Ancestor path of a task (rollup invalidation, moves)
+create index if not exists idx_task_closure_descendant on task_closure (descendant_id, ancestor_id);
+
+-- Every existing task is a root
+insert into task_closure (ancestor_id, descendant_id, depth)
+select id, id, 0 from tasks
+on conflict do nothing;
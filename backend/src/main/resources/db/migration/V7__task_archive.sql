@@ -0,0 +1,46 @@
+-- Cold tier: completed tasks are moved out of tasks (and its indexes) into tasks_archive by
+-- TaskArchiver, a whole top-level tree at a time. Labels and dependencies are kept inline
+-- as arrays; archived tasks have no board position and are never recurring.
+create table if not exists tasks_archive (
+    id bigint primary key,
+    title varchar(255),
+    description varchar(255),
+    due_date timestamp(6),
+    priority varchar(255),
+    completed boolean not null,
+    status varchar(255),
+    type varchar(255),
+    story_points integer,
+    parent_id bigint,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    user_id bigint not null constraint fk_tasks_archive_user references users,
+    category_id bigint constraint fk_tasks_archive_category references categories,
+    assignee_id bigint constraint fk_tasks_archive_assignee references users,
+    labels varchar(255)[] not null default '{}',
+    dependencies bigint[] not null default '{}',
+    archived_at timestamp(6) not null
+);
+
+-- Same list order as idx_tasks_user_created, so includeArchived listings merge both sides
+-- from their indexes; parent_id for restoring a tree
+create index if not exists idx_tasks_archive_user_created on tasks_archive (user_id, created_at, id);
+create index if not exists idx_tasks_archive_parent on tasks_archive (parent_id) where parent_id is not null;
+
+-- Archive candidates: completed tasks, oldest change first
+create index if not exists idx_tasks_completed_updated on tasks (updated_at) where completed = true;
+
+-- Both tiers, for includeArchived reads (archived_at is null for live tasks)
+create or replace view tasks_all as
+select t.id, t.title, t.description, t.due_date, t.priority, t.completed, t.status, t.type, t.rank,
+       t.story_points, t.parent_id, t.recurrence, t.created_at, t.updated_at, t.user_id, t.category_id,
+       t.assignee_id,
+       array(select l.labels from task_labels l where l.task_id = t.id) as labels,
+       array(select d.dependencies from task_dependencies d where d.task_id = t.id) as dependencies,
+       null::timestamp(6) as archived_at
+from tasks t
+union all
+select a.id, a.title, a.description, a.due_date, a.priority, a.completed, a.status, a.type, null,
+       a.story_points, a.parent_id, null, a.created_at, a.updated_at, a.user_id, a.category_id,
+       a.assignee_id, a.labels, a.dependencies, a.archived_at
+from tasks_archive a;
@@ -0,0 +1,36 @@
+-- Labels and dependencies move from the task_labels/task_dependencies collection tables
+-- into array columns of tasks: saving a task no longer deletes and re-inserts its
+-- collection rows, and reading one needs no extra query.
+alter table tasks add column if not exists labels varchar(255)[] not null default '{}';
+alter table tasks add column if not exists dependencies bigint[] not null default '{}';
+
+update tasks t
+set labels = coalesce((select array_agg(l.labels) from task_labels l
+                       where l.task_id = t.id and l.labels is not null), '{}'),
+    dependencies = coalesce((select array_agg(d.dependencies) from task_dependencies d
+                             where d.task_id = t.id and d.dependencies is not null), '{}')
+where exists (select 1 from task_labels l where l.task_id = t.id)
+   or exists (select 1 from task_dependencies d where d.task_id = t.id);
+
+-- Label filters are one lookup in a (user_id, labels) GIN index (btree_gin provides the
+-- user_id part); dependencies are looked up the other way (tasks depending on a task)
+create extension if not exists btree_gin;
+create index if not exists idx_tasks_user_labels on tasks using gin (user_id, labels);
+create index if not exists idx_tasks_dependencies on tasks using gin (dependencies);
+
+-- tasks_archive already has the same types; the view now reads the columns directly
+drop view if exists tasks_all;
+
+create view tasks_all as
+select t.id, t.title, t.description, t.due_date, t.priority, t.completed, t.status, t.type, t.rank,
+       t.story_points, t.parent_id, t.recurrence, t.created_at, t.updated_at, t.user_id, t.category_id,
+       t.assignee_id, t.labels, t.dependencies, null::timestamp(6) as archived_at
+from tasks t
+union all
+select a.id, a.title, a.description, a.due_date, a.priority, a.completed, a.status, a.type, null,
+       a.story_points, a.parent_id, null, a.created_at, a.updated_at, a.user_id, a.category_id,
+       a.assignee_id, a.labels, a.dependencies, a.archived_at
+from tasks_archive a;
+
+drop table if exists task_labels;
+drop table if exists task_dependencies;
@@ -0,0 +1,16 @@
+-- Idempotency-Key records for retried task creation (IdempotencyFilter). A row is claimed
+-- (status null) before the request runs and completed with the response to replay; rows
+-- are only read by their primary key and swept by expires_at.
+create table if not exists idempotency_keys (
+    user_id bigint not null constraint fk_idempotency_keys_user references users on delete cascade,
+    idempotency_key varchar(255) not null,
+    -- SHA-256 of method, path and body
+    fingerprint bytea not null,
+    status smallint,
+    content_type varchar(255),
+    body bytea,
+    expires_at timestamp(6) not null,
+    primary key (user_id, idempotency_key)
+);
+
+create index if not exists idx_idempotency_keys_expires on idempotency_keys (expires_at);
@@ -0,0 +1,311 @@
+package com.taskflow.backend.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.security.UserPrincipal;
+import com.taskflow.backend.service.TaskHierarchyService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Runs against the local database. Batches commit on their own and some tests hold row
+// locks from a second connection, so the data is committed and deleted again after each
+// test. The seeded tasks were changed in 2000 and the cutoff is the start of 2001, so the
+// mover never touches anyone else's tasks.
+@SpringBootTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskArchiverTests {
+
+    private static final String EMAIL = "archive-test@example.com";
+    private static final String OLD = "2000-06-01";
+    private static final String AFTER_CUTOFF = "2001-06-01";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // The application's archiver, for restore (which needs its transactional proxy)
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    private final ArchiveProperties properties = new ArchiveProperties();
+    private UserPrincipal principal;
+    private long userId;
+
+    @BeforeEach
+    void seed() {
+        properties.setCompletedDays((int) ChronoUnit.DAYS.between(LocalDate.of(2001, 1, 1), LocalDate.now()));
+        jdbcTemplate.update("""
+                insert into users (name, email, password, role, is_active, created_at, updated_at)
+                values ('archive test', ?, 'x', 'USER', true, now(), now())
+                """, EMAIL);
+        userId = jdbcTemplate.queryForObject("select id from users where email = ?", Long.class, EMAIL);
+        principal = new UserPrincipal(userId, EMAIL, "x", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("delete from tasks_archive where user_id = ?", userId);
+        jdbcTemplate.update("update tasks set parent_id = null where user_id = ?", userId);
+        jdbcTemplate.update("delete from tasks where user_id = ?", userId);
+        jdbcTemplate.update("delete from users where id = ?", userId);
+    }
+
+    @Test
+    void testArchivesWholeTreesCompletedAndUnchangedBeforeTheCutoff() {
+        long done = task(null, true, OLD, null);
+        long doneChild = task(done, true, OLD, null);
+        long changedChildRoot = task(null, true, OLD, null);
+        task(changedChildRoot, true, AFTER_CUTOFF, null);
+        long openChildRoot = task(null, true, OLD, null);
+        task(openChildRoot, false, OLD, null);
+        task(null, true, OLD, "FREQ=WEEKLY");
+        task(null, true, AFTER_CUTOFF, null);
+        task(null, false, OLD, null);
+
+        archiver().archiveCompleted();
+
+        assertEquals(Set.of(done, doneChild), archivedIds());
+        assertEquals(done, jdbcTemplate.queryForObject(
+                "select parent_id from tasks_archive where id = ?", Long.class, doneChild));
+        assertEquals(7, liveIds().size());
+    }
+
+    @Test
+    void testRunMovesAtMostMaxBatchesOldestFirst() {
+        long oldest = task(null, true, "2000-01-01", null);
+        long older = task(null, true, "2000-01-02", null);
+        long newest = task(null, true, "2000-01-03", null);
+        properties.setBatchSize(1);
+        properties.setMaxBatches(2);
+        TaskArchiver archiver = archiver();
+
+        archiver.archiveCompleted();
+        assertEquals(Set.of(oldest, older), archivedIds());
+
+        archiver.archiveCompleted();
+        assertEquals(Set.of(oldest, older, newest), archivedIds());
+    }
+
+    @Test
+    void testLockedRootIsSkippedWithoutWaiting() throws Exception {
+        long locked = task(null, true, "2000-01-01", null);
+        long free = task(null, true, "2000-01-02", null);
+
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            lock(other, "select id from tasks where id = " + locked + " for update");
+
+            CompletableFuture.runAsync(archiver()::archiveCompleted).get(10, TimeUnit.SECONDS);
+            assertEquals(Set.of(free), archivedIds());
+            other.rollback();
+        }
+
+        archiver().archiveCompleted();
+        assertEquals(Set.of(locked, free), archivedIds());
+    }
+
+    // The claim query sees an eligible tree; the subtask is changed (and reopened) while the
+    // mover waits for its lock, so the re-check under the lock keeps the tree
+    @Test
+    void testSubtaskChangedAfterTheClaimKeepsTheTree() throws Exception {
+        long root = task(null, true, OLD, null);
+        long child = task(root, true, OLD, null);
+
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            lock(other, "select id from tasks where id = " + child + " for update");
+
+            CompletableFuture<Void> run = CompletableFuture.runAsync(archiver()::archiveCompleted);
+            awaitLockWait();
+            try (Statement statement = other.createStatement()) {
+                statement.executeUpdate("update tasks set completed = false, updated_at = now() where id = " + child);
+            }
+            other.commit();
+            run.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(Set.of(), archivedIds());
+        assertEquals(Set.of(root, child), liveIds());
+    }
+
+    @Test
+    void testRestoreUnderArchivedParentMakesTheTaskTopLevel() {
+        long root = task(null, true, OLD, null);
+        long child = task(root, true, OLD, null);
+        long grandchild = task(child, true, OLD, null);
+        archiver().archiveCompleted();
+
+        TaskResponseDTO restored = taskArchiver.restore(child);
+
+        assertEquals(child, restored.getId());
+        assertEquals(Set.of(child, grandchild), liveIds());
+        assertNull(parentOf(child));
+        assertEquals(child, parentOf(grandchild));
+        assertEquals(Set.of(link(child, child, 0), link(grandchild, grandchild, 0), link(child, grandchild, 1)),
+                closure());
+
+        // The root comes back alone; its former subtask stays where it was restored
+        taskArchiver.restore(root);
+
+        assertEquals(Set.of(root, child, grandchild), liveIds());
+        assertEquals(Set.of(), archivedIds());
+        assertNull(parentOf(child));
+    }
+
+    @Test
+    void testRestoreReturnsTheWholeTreeUnderItsRoot() {
+        long root = task(null, true, OLD, null);
+        long child = task(root, true, OLD, null);
+        archiver().archiveCompleted();
+
+        taskArchiver.restore(root);
+
+        assertEquals(Set.of(root, child), liveIds());
+        assertEquals(root, parentOf(child));
+        assertEquals(Set.of(link(root, root, 0), link(child, child, 0), link(root, child, 1)), closure());
+    }
+
+    // A subtask restored on its own while the tree was being read is left out, not restored twice
+    @Test
+    void testRestoreSkipsSubtasksRestoredConcurrently() throws Exception {
+        long root = task(null, true, OLD, null);
+        long child = task(root, true, OLD, null);
+        long grandchild = task(child, true, OLD, null);
+        archiver().archiveCompleted();
+
+        CompletableFuture<TaskResponseDTO> restore;
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            lock(other, "select id from tasks_archive where id = " + grandchild + " for update");
+
+            restore = CompletableFuture.supplyAsync(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+                try {
+                    return taskArchiver.restore(root);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+            awaitLockWait();
+            try (Statement statement = other.createStatement()) {
+                statement.executeUpdate("delete from tasks_archive where id = " + grandchild);
+            }
+            other.commit();
+        }
+
+        assertEquals(root, restore.get(10, TimeUnit.SECONDS).getId());
+        assertEquals(Set.of(root, child), liveIds());
+        assertEquals(Set.of(link(root, root, 0), link(child, child, 0), link(root, child, 1)), closure());
+    }
+
+    private TaskArchiver archiver() {
+        return new TaskArchiver(jdbcTemplate, transactionManager, taskRepository, taskHierarchyService, taskMapper,
+                eventPublisher, properties, new SimpleMeterRegistry());
+    }
+
+    private long task(Long parentId, boolean completed, String updatedAt, String recurrence) {
+        Long id = jdbcTemplate.queryForObject("""
+                insert into tasks (title, priority, completed, recurrence, created_at, updated_at, user_id, parent_id)
+                values ('archive', 'LOW', ?, ?, ?::timestamp, ?::timestamp, ?, ?) returning id
+                """, Long.class, completed, recurrence, updatedAt, updatedAt, userId, parentId);
+        taskHierarchyService.attach(userId, id, parentId);
+        return id;
+    }
+
+    private static void lock(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery(sql).close();
+        }
+    }
+
+    // Until another session is blocked on a row lock
+    private void awaitLockWait() throws InterruptedException {
+        for (int attempt = 0; attempt < 200; attempt++) {
+            Long waiting = jdbcTemplate.queryForObject("""
+                    select count(*) from pg_stat_activity
+                    where datname = current_database() and wait_event_type = 'Lock'
+                    """, Long.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Nothing waited for the row lock");
+    }
+
+    private Set<Long> archivedIds() {
+        return Set.copyOf(jdbcTemplate.queryForList(
+                "select id from tasks_archive where user_id = ?", Long.class, userId));
+    }
+
+    private Set<Long> liveIds() {
+        return Set.copyOf(jdbcTemplate.queryForList("select id from tasks where user_id = ?", Long.class, userId));
+    }
+
+    private Long parentOf(long taskId) {
+        return jdbcTemplate.queryForObject("select parent_id from tasks where id = ?", Long.class, taskId);
+    }
+
+    private Set<String> closure() {
+        return jdbcTemplate.queryForList("""
+                select c.ancestor_id || '>' || c.descendant_id || '@' || c.depth
+                from task_closure c join tasks t on t.id = c.descendant_id where t.user_id = ?
+                """, String.class, userId).stream().collect(Collectors.toSet());
+    }
+
+    private static String link(long ancestor, long descendant, int depth) {
+        return ancestor + ">" + descendant + "@" + depth;
+    }
+}
@@ -0,0 +1,207 @@
+package com.taskflow.backend.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.dto.BatchOperation;
+import com.taskflow.backend.dto.BatchRequest;
+import com.taskflow.backend.dto.BatchResult;
+import com.taskflow.backend.exception.ValidationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class BatchExecutorTests {
+
+    // Both reads wait for each other, so they only finish if they run at the same time
+    private final CountDownLatch readsStarted = new CountDownLatch(2);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final BatchExecutor executor = new BatchExecutor(new StubDispatcher(),
+            new BatchFilters(List.of(new StubSecurityFilter())), new ObjectMapper(), new BatchProperties(),
+            transactionManager, new SimpleMeterRegistry());
+
+    // The batch request, authenticated by the security chain before it reached the controller
+    @BeforeEach
+    void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("batch", null));
+    }
+
+    @AfterEach
+    void shutdown() {
+        SecurityContextHolder.clearContext();
+        executor.shutdown();
+    }
+
+    @Test
+    void testReadsRunInParallelAndResultsKeepTheirOrder() {
+        List<BatchResult> results = executor.execute(batch(false,
+                operation("GET", "/api/v1/tasks/1?wait=true"),
+                operation("GET", "/api/v1/tasks/2?wait=true"),
+                operation("DELETE", "/api/v1/tasks/3"),
+                operation("GET", "/api/v1/tasks/4")),
+                requestWithToken(), new MockHttpServletResponse());
+
+        assertEquals(List.of("0", "1", "2", "3"), results.stream().map(BatchResult::id).toList());
+        assertEquals("GET /api/v1/tasks/2", results.get(1).body().path("route").asText());
+        assertEquals(404, results.get(2).status());
+        assertEquals(200, results.get(3).status());
+    }
+
+    @Test
+    void testFailedOperationRollsBackTransactionAndSkipsTheRest() {
+        TransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+
+        List<BatchResult> results = executor.execute(batch(true,
+                operation("POST", "/api/v1/tasks"),
+                operation("DELETE", "/api/v1/tasks/3"),
+                operation("GET", "/api/v1/tasks/4")),
+                requestWithToken(), new MockHttpServletResponse());
+
+        assertEquals(List.of(200, 404, 424), results.stream().map(BatchResult::status).toList());
+        // The transaction manager rolls back a rollback-only status on completion
+        assertTrue(status.isRollbackOnly());
+        verify(transactionManager).commit(status);
+    }
+
+    @Test
+    void testOperationsRunAsTheBatchUserAndLeaveTheBatchContextAlone() {
+        List<BatchResult> results = executor.execute(batch(false,
+                operation("GET", "/api/v1/tasks/1"), operation("GET", "/api/v1/tasks/2"),
+                operation("PUT", "/api/v1/tasks/3")),
+                requestWithToken(), new MockHttpServletResponse());
+
+        assertEquals(List.of(200, 200, 200), results.stream().map(BatchResult::status).toList());
+        assertEquals(List.of("batch", "batch", "batch"),
+                results.stream().map(result -> result.body().path("user").asText()).toList());
+        assertEquals("batch", SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    @Test
+    void testOperationsWithoutTheBatchAuthenticationAreRejectedByTheFilters() {
+        SecurityContextHolder.clearContext();
+
+        List<BatchResult> results = executor.execute(batch(false, operation("GET", "/api/v1/tasks/1")),
+                requestWithToken(), new MockHttpServletResponse());
+
+        assertEquals(401, results.get(0).status());
+    }
+
+    @Test
+    void testOperationsCannotBringTheirOwnCredentials() {
+        BatchOperation withToken = operation("GET", "/api/v1/tasks/1");
+        withToken.setHeaders(Map.of("authorization", "Bearer other"));
+
+        assertThrows(ValidationException.class, () -> executor.execute(batch(false, withToken),
+                requestWithToken(), new MockHttpServletResponse()));
+    }
+
+    @Test
+    void testOnlyApiRoutesOutsideAuthCanBeBatched() {
+        for (String path : List.of("/actuator/health", "/api/v1/auth/login", "/api/v1/batch",
+                "/api/v1/../v2/tasks", "/api/v1/tasks/%2e%2e/x")) {
+            assertThrows(ValidationException.class, () -> executor.execute(batch(false, operation("GET", path)),
+                    new MockHttpServletRequest(), new MockHttpServletResponse()), path);
+        }
+    }
+
+    private static MockHttpServletRequest requestWithToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+
+    private static BatchRequest batch(boolean transactional, BatchOperation... operations) {
+        BatchRequest batch = new BatchRequest();
+        batch.setTransactional(transactional);
+        batch.setRequests(List.of(operations));
+        return batch;
+    }
+
+    private static BatchOperation operation(String method, String path) {
+        BatchOperation operation = new BatchOperation();
+        operation.setMethod(method);
+        operation.setPath(path);
+        return operation;
+    }
+
+    // Stands in for the stateless security chain: loads the context from the request,
+    // rejects the operation without one, and clears the thread's context afterwards as
+    // FilterChainProxy does
+    private static class StubSecurityFilter implements Filter {
+
+        private final RequestAttributeSecurityContextRepository contexts = new RequestAttributeSecurityContextRepository();
+
+        @Override
+        public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
+                throws IOException, ServletException {
+            SecurityContext context = contexts.loadDeferredContext((HttpServletRequest) servletRequest).get();
+            try {
+                if (context.getAuthentication() == null) {
+                    ((HttpServletResponse) servletResponse).sendError(401);
+                    return;
+                }
+                SecurityContextHolder.setContext(context);
+                chain.doFilter(servletRequest, servletResponse);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+    }
+
+    // Answers with the route it was called with and the user it ran as; DELETE is always 404
+    private class StubDispatcher extends DispatcherServlet {
+
+        @Override
+        public void service(ServletRequest servletRequest, ServletResponse servletResponse) throws IOException {
+            HttpServletRequest request = (HttpServletRequest) servletRequest;
+            HttpServletResponse response = (HttpServletResponse) servletResponse;
+            if (request.getParameter("wait") != null) {
+                readsStarted.countDown();
+                try {
+                    if (!readsStarted.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Reads did not run in parallel");
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            response.setStatus("DELETE".equals(request.getMethod()) ? 404 : 200);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"route\":\"" + request.getMethod() + " " + request.getServletPath()
+                    + "\",\"user\":\"" + SecurityContextHolder.getContext().getAuthentication().getName() + "\"}");
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.taskflow.backend.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// The same listing through the blocking API (GET /api/v1/tasks) and the streaming one
+// (GET /api/v2/tasks) with every request in flight at once, one connection each. Prints the
+// latency percentiles and, sampled from /actuator/prometheus during the run, the server's
+// peak heap growth per request and peak live threads.
+// Not a unit test; start the application without rate limiting and with enough connections,
+//   --app.rate-limit.enabled=false --server.tomcat.max-connections=20000
+// raise the open files limit (ulimit -n) on both sides, then run:
+//   mvn -q test-compile exec:java -Dexec.classpathScope=test \
+//       -Dexec.mainClass=com.taskflow.backend.benchmark.ConcurrentReadBenchmark \
+//       -Dexec.args="10000 user@example.com password 100 http://localhost:8080"
+// Both listings filter on a label (the first of the user's tasks) so that neither is
+// answered from the first-page cache.
+public class ConcurrentReadBenchmark {
+
+    private static final long SAMPLE_MILLIS = 100;
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        int connections = Integer.parseInt(args[0]);
+        String email = args[1];
+        String password = args[2];
+        int rows = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+        String base = args.length > 4 ? args[4] : "http://localhost:8080";
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        String token = login(client, base, email, password);
+        String label = firstLabel(client, base, token);
+
+        System.out.printf("%d concurrent requests of %d rows (label=%s)%n", connections, rows, label);
+        System.out.printf("%-4s %8s %8s %8s %8s %8s %8s %14s %8s%n", "api", "ok", "failed", "p50 ms", "p99 ms",
+                "p99.9 ms", "max ms", "heap/request", "threads");
+        run(client, base, token, "v1", "/api/v1/tasks?size=" + rows + "&label=" + label, connections);
+        run(client, base, token, "v2", "/api/v2/tasks?limit=" + rows + "&label=" + label, connections);
+    }
+
+    private static void run(HttpClient client, String base, String token, String name, String path,
+                            int connections) throws Exception {
+        // Warm up the path first, so that neither API pays for class loading in the run
+        for (int i = 0; i < 20; i++) {
+            send(client, base, token, path).join();
+        }
+        long heapBefore = (long) metric(client, base, "jvm_memory_used_bytes", "area=\"heap\"");
+        Sampler sampler = new Sampler(client, base);
+        Thread sampling = new Thread(sampler, "metrics-sampler");
+        sampling.start();
+
+        AtomicInteger failed = new AtomicInteger();
+        long[] latencies = new long[connections];
+        List<CompletableFuture<?>> requests = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            int index = i;
+            long start = System.nanoTime();
+            requests.add(send(client, base, token, path).handle((response, error) -> {
+                latencies[index] = System.nanoTime() - start;
+                if (error != null || response.statusCode() != 200) {
+                    failed.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(requests.toArray(new CompletableFuture[0])).join();
+        sampler.running = false;
+        sampling.join();
+
+        Arrays.sort(latencies);
+        System.out.printf("%-4s %8d %8d %8d %8d %8d %8d %12d B %8d%n", name, connections - failed.get(),
+                failed.get(), millis(latencies, 0.5), millis(latencies, 0.99), millis(latencies, 0.999),
+                millis(latencies, 1.0), Math.max(0, sampler.peakHeap - heapBefore) / connections,
+                sampler.peakThreads);
+    }
+
+    private static CompletableFuture<HttpResponse<String>> send(HttpClient client, String base, String token,
+                                                                String path) {
+        return client.sendAsync(HttpRequest.newBuilder(URI.create(base + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(TIMEOUT)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long millis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, index)]).toMillis();
+    }
+
+    private static String login(HttpClient client, String base, String email, String password)
+            throws IOException, InterruptedException {
+        HttpResponse<String> login = client.send(HttpRequest.newBuilder(URI.create(base + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        MAPPER.writeValueAsString(Map.of("email", email, "password", password))))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + login.statusCode());
+        }
+        return MAPPER.readTree(login.body()).path("data").path("token").asText();
+    }
+
+    private static String firstLabel(HttpClient client, String base, String token) throws IOException {
+        HttpResponse<String> first = send(client, base, token, "/api/v2/tasks?limit=1")
+                .exceptionally(error -> null).join();
+        if (first == null || first.statusCode() != 200 || first.body().isBlank()) {
+            throw new IllegalStateException("The user has no tasks to list");
+        }
+        String label = MAPPER.readTree(first.body()).path("labels").path(0).asText();
+        if (label.isEmpty()) {
+            throw new IllegalStateException("The user's newest task has no label to filter on");
+        }
+        return label;
+    }
+
+    // Sum of the series of a Prometheus metric whose labels contain the given one
+    private static double metric(HttpClient client, String base, String name, String label) {
+        try {
+            String body = client.send(HttpRequest.newBuilder(URI.create(base + "/actuator/prometheus")).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            return body.lines()
+                    .filter(line -> line.startsWith(name + "{") || line.startsWith(name + " "))
+                    .filter(line -> label == null || line.contains(label))
+                    .mapToDouble(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                    .sum();
+        } catch (IOException ex) {
+            return 0;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    private static final class Sampler implements Runnable {
+
+        private final HttpClient client;
+        private final String base;
+        private volatile boolean running = true;
+        private volatile long peakHeap;
+        private volatile long peakThreads;
+
+        private Sampler(HttpClient client, String base) {
+            this.client = client;
+            this.base = base;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                peakHeap = Math.max(peakHeap, (long) metric(client, base, "jvm_memory_used_bytes", "area=\"heap\""));
+                peakThreads = Math.max(peakThreads, (long) metric(client, base, "jvm_threads_live_threads", null));
+                try {
+                    Thread.sleep(SAMPLE_MILLIS);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }
+    }
+}
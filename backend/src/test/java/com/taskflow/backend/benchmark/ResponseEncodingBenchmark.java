@@ -0,0 +1,108 @@
+package com.taskflow.backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskflow.backend.config.WebConfig;
+import com.taskflow.backend.dto.ApiResponse;
+import com.taskflow.backend.dto.TaskFieldPlan;
+import com.taskflow.backend.dto.TaskResponseDTO;
+
+// Payload size and encode/decode time of an ApiResponse<Page<TaskResponseDTO>> in JSON,
+// CBOR and Smile, using the same mapper setup as the HTTP converters. Not a unit test;
+// run with:
+//   mvn -q test-compile exec:java -Dexec.classpathScope=test \
+//       -Dexec.mainClass=com.taskflow.backend.benchmark.ResponseEncodingBenchmark
+public class ResponseEncodingBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 2_000;
+
+    // Keeps the JIT from discarding the measured work
+    private static volatile long blackhole;
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper json = builder().build();
+        ObjectMapper cbor = WebConfig.binaryMapper(builder(), new CBORFactory());
+        ObjectMapper smile = WebConfig.binaryMapper(builder(), new SmileFactory());
+
+        for (int pageSize : new int[] { 100, 1000 }) {
+            ApiResponse<PageImpl<TaskResponseDTO>> response = ApiResponse.success(
+                    new PageImpl<>(tasks(pageSize), PageRequest.of(0, pageSize), pageSize * 5L));
+            System.out.printf("%n%d tasks%n", pageSize);
+            System.out.printf("%-6s %10s %12s %12s%n", "format", "bytes", "encode (us)", "decode (us)");
+            int jsonBytes = run("json", json, response, 0);
+            run("cbor", cbor, response, jsonBytes);
+            run("smile", smile, response, jsonBytes);
+        }
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        // Matches Spring Boot's defaults for the JSON converter
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .filters(TaskFieldPlan.DEFAULT_FILTERS);
+    }
+
+    private static int run(String name, ObjectMapper mapper, Object value, int jsonBytes) throws Exception {
+        byte[] encoded = mapper.writeValueAsBytes(value);
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += mapper.writeValueAsBytes(value).length;
+            sink += mapper.readTree(encoded).size();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += mapper.writeValueAsBytes(value).length;
+        }
+        long encodeNanos = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += mapper.readTree(encoded).size();
+        }
+        long decodeNanos = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+        blackhole += sink;
+
+        String ratio = jsonBytes > 0 ? String.format(" (%.0f%% of json)", 100.0 * encoded.length / jsonBytes) : "";
+        System.out.printf("%-6s %10d %12.1f %12.1f%s%n",
+                name, encoded.length, encodeNanos / 1000.0, decodeNanos / 1000.0, ratio);
+        return encoded.length;
+    }
+
+    private static List<TaskResponseDTO> tasks(int count) {
+        String[] statuses = { "TODO", "IN_PROGRESS", "DONE" };
+        String[] priorities = { "LOW", "MEDIUM", "HIGH" };
+        LocalDateTime base = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_000_000);
+        List<TaskResponseDTO> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TaskResponseDTO task = new TaskResponseDTO();
+            task.setId(10_000L + i);
+            task.setTitle("Task " + i + ": update onboarding flow");
+            task.setDescription("Make the second onboarding step skippable and track how many users skip it.");
+            task.setStatus(statuses[i % statuses.length]);
+            task.setPriority(priorities[i % priorities.length]);
+            task.setType("FEATURE");
+            task.setStoryPoints(i % 8);
+            task.setLabels(List.of("frontend", "onboarding"));
+            task.setDependencies(List.of(10_000L + i / 2));
+            task.setAssigneeId(7L);
+            task.setAssigneeName("Sam Rivera");
+            task.setDueDate(base.plusDays(i % 30));
+            task.setCreatedAt(base.minusDays(i % 60));
+            task.setUpdatedAt(base.minusHours(i % 48));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
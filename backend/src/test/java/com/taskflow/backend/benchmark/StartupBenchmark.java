@@ -0,0 +1,127 @@
+package com.taskflow.backend.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Time from JVM launch to the first successful request, for a plain start and for the
+// faststart mode (AOT bean definitions, class-data sharing archive, faststart profile).
+// Every run starts a fresh instance on its own port and polls until the request succeeds.
+// Not a unit test; build the artifacts with ./faststart.sh build, then run:
+//   mvn -q test-compile exec:java -Dexec.classpathScope=test \
+//       -Dexec.mainClass=com.taskflow.backend.benchmark.StartupBenchmark \
+//       -Dexec.args="5 user@example.com password"
+// With an email and password the request is a login followed by GET /api/v1/tasks, so the
+// time includes creating the beans lazy initialization deferred; without, it is the health
+// endpoint.
+public class StartupBenchmark {
+
+    private static final Path BUILD = Path.of("target", "faststart");
+    private static final String JAR = "backend-0.0.1-SNAPSHOT.jar";
+    private static final int PORT = 18081;
+    private static final long POLL_MILLIS = 20;
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        String email = args.length > 2 ? args[1] : null;
+        String password = args.length > 2 ? args[2] : null;
+        String jar = BUILD.resolve(JAR).toString();
+        Path archive = BUILD.resolve("application.jsa");
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("No " + archive + "; run ./faststart.sh build first");
+        }
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", List.of("-jar", jar));
+        variants.put("faststart", List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true",
+                "-jar", jar, "--spring.profiles.active=faststart"));
+
+        System.out.printf("%-10s %10s %10s %10s   (ms to first successful %s, %d runs)%n", "variant", "min", "median",
+                "max", email != null ? "GET /api/v1/tasks" : "health check", runs);
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            List<Long> times = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                times.add(timeToFirstRequest(variant.getValue(), email, password));
+            }
+            Collections.sort(times);
+            System.out.printf("%-10s %10d %10d %10d%n", variant.getKey(), times.get(0), times.get(times.size() / 2),
+                    times.get(times.size() - 1));
+        }
+    }
+
+    private static long timeToFirstRequest(List<String> arguments, String email, String password) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(arguments);
+        command.add("--server.port=" + PORT);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (!succeeds(email, password)) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Instance exited with status " + process.exitValue());
+                }
+                if (System.nanoTime() - start > TIMEOUT.toNanos()) {
+                    throw new IllegalStateException("No successful request within " + TIMEOUT);
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+            return Duration.ofNanos(System.nanoTime() - start).toMillis();
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    // False until the instance listens and answers with 200
+    private static boolean succeeds(String email, String password) throws InterruptedException {
+        try {
+            if (email == null) {
+                return send(HttpRequest.newBuilder(uri("/actuator/health")).GET()).statusCode() == 200;
+            }
+            HttpResponse<String> login = send(HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            MAPPER.writeValueAsString(Map.of("email", email, "password", password)))));
+            if (login.statusCode() != 200) {
+                return false;
+            }
+            String token = MAPPER.readTree(login.body()).path("data").path("token").asText();
+            return send(HttpRequest.newBuilder(uri("/api/v1/tasks"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()).statusCode() == 200;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return CLIENT.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://localhost:" + PORT + path);
+    }
+}
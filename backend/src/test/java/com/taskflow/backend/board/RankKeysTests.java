@@ -0,0 +1,80 @@
+package com.taskflow.backend.board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class RankKeysTests {
+
+    @Test
+    void betweenIsStrictlyBetweenItsBounds() {
+        String middle = RankKeys.between(null, null);
+        String first = RankKeys.between(null, middle);
+        String last = RankKeys.between(middle, null);
+
+        assertTrue(first.compareTo(middle) < 0);
+        assertTrue(middle.compareTo(last) < 0);
+        assertTrue(RankKeys.between("1", "2").compareTo("1") > 0);
+        assertTrue(RankKeys.between("1", "2").compareTo("2") < 0);
+        assertTrue(RankKeys.between(null, "1").compareTo("1") < 0);
+    }
+
+    // Dragging tasks into the same gap over and over, from either side, keeps the column
+    // ordered and every key valid; keys only grow by about a digit per 6 moves
+    @Test
+    void repeatedMovesIntoOneGapStayOrdered() {
+        String low = RankKeys.between(null, null);
+        String high = RankKeys.between(low, null);
+        for (int move = 0; move < 200; move++) {
+            String key = RankKeys.between(low, high);
+            assertTrue(RankKeys.isValid(key), key);
+            assertTrue(low.compareTo(key) < 0 && key.compareTo(high) < 0, key);
+            if (move % 2 == 0) {
+                low = key;
+            } else {
+                high = key;
+            }
+        }
+        assertTrue(low.length() <= 200 / 5, low);
+    }
+
+    @Test
+    void randomInsertsMatchTheListOrder() {
+        List<String> column = new ArrayList<>();
+        Random random = new Random(7);
+        for (int insert = 0; insert < 1000; insert++) {
+            int position = random.nextInt(column.size() + 1);
+            String after = position > 0 ? column.get(position - 1) : null;
+            String before = position < column.size() ? column.get(position) : null;
+            column.add(position, RankKeys.between(after, before));
+        }
+        assertEquals(column.stream().sorted().toList(), column);
+    }
+
+    @Test
+    void spreadGivesShortEvenlySpacedKeys() {
+        List<String> keys = RankKeys.spread(null, null, 3000);
+
+        assertEquals(3000, keys.size());
+        assertEquals(keys.stream().sorted().distinct().toList(), keys);
+        assertTrue(keys.stream().allMatch(key -> key.length() <= 3 && RankKeys.isValid(key)));
+
+        List<String> appended = RankKeys.spread(keys.get(keys.size() - 1), null, 10);
+        assertTrue(appended.get(0).compareTo(keys.get(keys.size() - 1)) > 0);
+        // Room is left between spread keys, so the next moves do not lengthen them
+        assertEquals(keys.get(0).length(), RankKeys.between(keys.get(0), keys.get(1)).length());
+    }
+
+    @Test
+    void rejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("V", "V"));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("V0", null));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("V-", null));
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflow.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskflow.backend.dto.TaskFieldPlan;
+import com.taskflow.backend.dto.TaskResponseDTO;
+
+class BinaryTimestampModuleTests {
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_000_000);
+
+    @Test
+    void testCborWritesTaggedEpochTimeAndReadsItBack() throws Exception {
+        ObjectMapper cbor = WebConfig.binaryMapper(builder(), new CBORFactory());
+
+        byte[] encoded = cbor.writeValueAsBytes(task());
+
+        // Decoded by a plain CBOR mapper, as a client without our module would
+        JsonNode tree = new CBORMapper().readTree(encoded);
+        assertEquals(1L, tree.get("id").asLong());
+        assertEquals("Test Task", tree.get("title").asText());
+        double epochSeconds = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000.0;
+        assertEquals(epochSeconds, tree.get("createdAt").doubleValue());
+        assertEquals(1, tagOf(encoded, "createdAt"));
+        assertEquals(createdAt, cbor.readValue(encoded, TaskResponseDTO.class).getCreatedAt());
+    }
+
+    @Test
+    void testSmileRoundTripsEpochMillis() throws Exception {
+        ObjectMapper smile = WebConfig.binaryMapper(builder(), new SmileFactory());
+
+        byte[] encoded = smile.writeValueAsBytes(task());
+
+        assertEquals(createdAt, smile.readValue(encoded, TaskResponseDTO.class).getCreatedAt());
+        assertTrue(smile.readTree(encoded).get("createdAt").isNumber());
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().filters(TaskFieldPlan.DEFAULT_FILTERS);
+    }
+
+    private TaskResponseDTO task() {
+        TaskResponseDTO task = new TaskResponseDTO();
+        task.setId(1L);
+        task.setTitle("Test Task");
+        task.setCreatedAt(createdAt);
+        return task;
+    }
+
+    // CBOR tag on the value of a top-level field; 1 is epoch-based date/time
+    private static int tagOf(byte[] encoded, String field) throws Exception {
+        try (CBORParser parser = new CBORFactory().createParser(encoded)) {
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() == JsonToken.FIELD_NAME && field.equals(parser.currentName())) {
+                    parser.nextToken();
+                    return parser.getCurrentTag();
+                }
+            }
+        }
+        throw new AssertionError(field + " not found");
+    }
+}
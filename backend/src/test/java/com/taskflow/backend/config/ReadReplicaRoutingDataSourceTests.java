@@ -0,0 +1,77 @@
+package com.taskflow.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadReplicaRoutingDataSourceTests {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private String user = "test@example.com";
+    private ReadReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica);
+        routing = new ReadReplicaRoutingDataSource(primary, replicas, 60_000, 10_000, () -> user);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testReadOnlyTransactionsGoToReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(replicaConnection, routing.getConnection());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    void testReadsStayOnPrimaryAfterOwnWrite() throws SQLException {
+        routing.getConnection(); // read-write transaction by the user
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(primaryConnection, routing.getConnection());
+
+        user = "other@example.com";
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void testUnreachableReplicaFailsOverToPrimary() throws SQLException {
+        doThrow(new SQLException("connection refused")).when(replica).getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(primaryConnection, routing.getConnection());
+
+        // Out of rotation until a health check succeeds
+        doReturn(replicaConnection).when(replica).getConnection();
+        assertSame(primaryConnection, routing.getConnection());
+    }
+}
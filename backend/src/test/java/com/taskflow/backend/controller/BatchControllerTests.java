@@ -0,0 +1,152 @@
+package com.taskflow.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.monitoring.SqlBudget;
+import com.taskflow.backend.monitoring.SqlBudgetExtension;
+import com.taskflow.backend.monitoring.SqlStatementStats;
+import com.taskflow.backend.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Operations go through the application's DispatcherServlet and servlet filters, not
+// MockMvc's own servlet. They run on the test thread (transactional batches and writes),
+// so they see the seeded rows and count against the test's SQL budget.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(SqlBudgetExtension.class)
+@Transactional
+class BatchControllerTests {
+
+    private static final String EMAIL = "batch-test@example.com";
+    private static final int OPERATIONS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DispatcherServlet dispatcherServlet;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private long taskId;
+    private String token;
+
+    @BeforeEach
+    void seed() throws ServletException {
+        // The container initializes it on the first request; there is no container here
+        if (dispatcherServlet.getServletConfig() == null) {
+            dispatcherServlet.init(new MockServletConfig(context.getServletContext(), "dispatcherServlet"));
+        }
+        jdbcTemplate.update("""
+                insert into users (name, email, password, role, is_active, created_at, updated_at)
+                values ('batch test', ?, 'x', 'USER', true, now(), now())
+                """, EMAIL);
+        long userId = jdbcTemplate.queryForObject("select id from users where email = ?", Long.class, EMAIL);
+        jdbcTemplate.update("""
+                insert into tasks (title, priority, completed, created_at, updated_at, user_id)
+                values ('batched', 'LOW', false, now(), now(), ?)
+                """, userId);
+        taskId = jdbcTemplate.queryForObject("select id from tasks where user_id = ?", Long.class, userId);
+        token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+        // Only the request counts against the budget, not the seeding
+        SqlStatementStats.begin();
+    }
+
+    // The batch request is authenticated once (one user lookup); each read is then the task
+    // and its owner
+    @Test
+    @SqlBudget(1 + 2 * OPERATIONS)
+    void shouldAuthenticateTheBatchOnce() throws Exception {
+        String read = "{\"path\": \"/api/v1/tasks/" + taskId + "\"}";
+
+        JsonNode results = batch("{\"transactional\": true, \"requests\": ["
+                + String.join(",", Collections.nCopies(OPERATIONS, read)) + "]}");
+
+        for (JsonNode result : results) {
+            assertEquals(200, result.path("status").asInt());
+            assertEquals("batched", result.path("body").path("data").path("title").asText());
+        }
+        long userLookups = SqlStatementStats.current().repeatedShapes(0).entrySet().stream()
+                .filter(shape -> shape.getKey().contains("from users") && shape.getKey().contains("email"))
+                .mapToLong(shape -> shape.getValue())
+                .sum();
+        assertEquals(1, userLookups);
+    }
+
+    @Test
+    void shouldRejectCredentialsOnAnOperation() throws Exception {
+        mockMvc.perform(post("/api/v1/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"requests": [{"path": "/api/v1/tasks/%d", "headers": {"Authorization": "Bearer x"}}]}
+                                """.formatted(taskId)))
+                .andExpect(status().isBadRequest());
+    }
+
+    // The task-bulk route allows a burst of 5 (taskflow.properties); RateLimitFilter counts
+    // every operation, and the HTTP metrics filter records each one
+    @Test
+    void shouldRateLimitAndMeasureEachOperation() throws Exception {
+        double before = bulkRequestsRecorded();
+        String bulk = "{\"method\": \"POST\", \"path\": \"/api/v1/tasks/bulk\", \"body\": []}";
+
+        JsonNode results = batch("{\"requests\": [" + String.join(",", Collections.nCopies(6, bulk)) + "]}");
+
+        assertEquals(200, results.get(4).path("status").asInt());
+        assertEquals(429, results.get(5).path("status").asInt());
+
+        assertEquals(6, bulkRequestsRecorded() - before);
+    }
+
+    private JsonNode batch(String body) throws Exception {
+        byte[] response = mockMvc.perform(post("/api/v1/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        return objectMapper.readTree(response).path("data");
+    }
+
+    private double bulkRequestsRecorded() {
+        return meterRegistry.find("http.server.requests").tag("uri", "/api/v1/tasks/bulk").timers().stream()
+                .mapToDouble(timer -> timer.count())
+                .sum();
+    }
+}
@@ -1,17 +1,39 @@
 package com.taskflow.backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.taskflow.backend.monitoring.SqlBudget;
+import com.taskflow.backend.monitoring.SqlBudgetExtension;
+import com.taskflow.backend.monitoring.SqlStatementStats;
 import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+// Requests run on the test thread inside the test transaction, so the seeded rows are
+// visible to them and rolled back afterwards
 @SpringBootTest
 @AutoConfigureMockMvc
+@ExtendWith(SqlBudgetExtension.class)
+@Transactional
 class TaskControllerTests {
 
     @Autowired
@@ -20,8 +42,131 @@ class TaskControllerTests {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UserPrincipal principal;
+    private long taskId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("""
+                insert into users (name, email, password, role, is_active, created_at, updated_at)
+                values ('controller test', 'controller-test@example.com', 'x', 'USER', true, now(), now())
+                """);
+        long userId = jdbcTemplate.queryForObject(
+                "select id from users where email = 'controller-test@example.com'", Long.class);
+        jdbcTemplate.update("""
+                insert into tasks (title, priority, completed, created_at, updated_at, user_id, assignee_id)
+                select 'task ' || g, 'MEDIUM', false, now() - g * interval '1 minute', now(), ?, ?
+                from generate_series(1, 20) g
+                """, userId, userId);
+        taskId = jdbcTemplate.queryForObject(
+                "select id from tasks where user_id = ? and title = 'task 1'", Long.class, userId);
+        principal = new UserPrincipal(userId, "controller-test@example.com", "x", List.of());
+        // Only the request counts against the budget, not the seeding
+        SqlStatementStats.begin();
+    }
+
     @Test
+    @SqlBudget(0)
     void shouldReturnUnauthorizedWhenNoToken() throws Exception {
         mockMvc.perform(get("/api/tasks")).andExpect(status().isUnauthorized());
     }
+
+    // The task, then its owner (also its assignee)
+    @Test
+    @SqlBudget(2)
+    void shouldLoadTaskDetailWithoutExtraLookups() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).with(authentication(authenticated())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("task 1"));
+    }
+
+    @Test
+    void shouldServeCborWhenAccepted() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/tasks/{id}", taskId)
+                        .accept("application/cbor")
+                        .with(authentication(authenticated())))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode task = new CBORMapper().readTree(body).get("data");
+        assertEquals(taskId, task.get("id").asLong());
+        assertEquals("task 1", task.get("title").asText());
+        assertTrue(task.get("createdAt").isNumber());
+    }
+
+    // Count, page and the shared owner once: not one lookup per task
+    @Test
+    @SqlBudget(3)
+    void shouldListTasksWithoutPerTaskQueries() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks?size=20").with(authentication(authenticated())))
+                .andExpect(status().isOk());
+    }
+
+    // The includeArchived listing with a different assignee per task: count and page, with
+    // the assignees joined into the page rather than loaded one by one
+    @Test
+    @SqlBudget(2)
+    void shouldListArchivedTasksWithTheirAssigneesInThePage() throws Exception {
+        jdbcTemplate.update("""
+                insert into users (name, email, password, role, is_active, created_at, updated_at)
+                select 'assignee ' || g, 'controller-test-' || g || '@example.com', 'x', 'USER', true, now(), now()
+                from generate_series(1, 20) g
+                """);
+        jdbcTemplate.update("""
+                update tasks t set assignee_id = u.id
+                from users u
+                where t.user_id = ? and u.email = 'controller-test-' || substr(t.title, 6) || '@example.com'
+                """, principal.getId());
+        SqlStatementStats.begin();
+
+        mockMvc.perform(get("/api/v1/tasks?size=20&includeArchived=true").with(authentication(authenticated())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(20))
+                .andExpect(jsonPath("$.data.content[0].assigneeName").value("assignee 1"));
+    }
+
+    // Ten tasks with ten assignees, five categories and a dependency each: tasks with their
+    // references, then the dependencies, however many tasks are asked for
+    @Test
+    @SqlBudget(2)
+    void shouldBatchReadTasksWithTheirReferencesInTwoStatements() throws Exception {
+        jdbcTemplate.update("""
+                insert into users (name, email, password, role, is_active, created_at, updated_at)
+                select 'assignee ' || g, 'controller-test-' || g || '@example.com', 'x', 'USER', true, now(), now()
+                from generate_series(1, 10) g
+                """);
+        jdbcTemplate.update("""
+                insert into categories (name, created_at)
+                select 'controller-test-' || g, now() from generate_series(1, 5) g
+                """);
+        jdbcTemplate.update("""
+                update tasks t set assignee_id = u.id, category_id = c.id, dependencies = array[?]::bigint[]
+                from users u, categories c
+                where t.user_id = ? and t.title in ('task 11', 'task 12', 'task 13', 'task 14', 'task 15',
+                                                    'task 16', 'task 17', 'task 18', 'task 19', 'task 20')
+                  and u.email = 'controller-test-' || (substr(t.title, 6)::int - 10) || '@example.com'
+                  and c.name = 'controller-test-' || (substr(t.title, 6)::int % 5 + 1)
+                """, taskId, principal.getId());
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select id from tasks where user_id = ? and category_id is not null", Long.class, principal.getId());
+        SqlStatementStats.begin();
+
+        mockMvc.perform(get("/api/v1/tasks")
+                        .param("ids", ids.stream().map(String::valueOf).toArray(String[]::new))
+                        .param("expand", "dependencies", "assignee", "category")
+                        .with(authentication(authenticated())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tasks.length()").value(10))
+                .andExpect(jsonPath("$.data.assignees.length()").value(11))
+                .andExpect(jsonPath("$.data.categories.length()").value(5))
+                .andExpect(jsonPath("$.data.dependencies.length()").value(1));
+    }
+
+    private UsernamePasswordAuthenticationToken authenticated() {
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
 }
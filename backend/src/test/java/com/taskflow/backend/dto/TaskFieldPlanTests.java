@@ -0,0 +1,44 @@
+package com.taskflow.backend.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.taskflow.backend.exception.ValidationException;
+
+class TaskFieldPlanTests {
+
+    @Test
+    void testPlanSelectsOnlyRequestedColumnsAndAlwaysId() {
+        TaskFieldPlan plan = TaskFieldPlan.of("title, status,labels");
+
+        assertEquals(List.of(TaskField.ID, TaskField.TITLE, TaskField.STATUS, TaskField.LABELS), plan.getColumns());
+        assertEquals("select t.id, t.title, t.status, t.labels from Task t", plan.getSelectJpql());
+        assertTrue(plan.includes(TaskField.LABELS));
+        assertFalse(plan.includes(TaskField.DESCRIPTION));
+    }
+
+    @Test
+    void testAssigneeFieldsJoinAssignee() {
+        assertEquals("select t.id, a.name from Task t left join t.assignee a",
+                TaskFieldPlan.of("assigneeName").getSelectJpql());
+    }
+
+    @Test
+    void testPlansAreReusedRegardlessOfOrder() {
+        assertSame(TaskFieldPlan.of("title,dueDate"), TaskFieldPlan.of("dueDate, title,id"));
+        assertSame(TaskFieldPlan.ALL, TaskFieldPlan.of(null));
+    }
+
+    @Test
+    void testUnknownFieldsAreRejected() {
+        ValidationException ex = assertThrows(ValidationException.class, () -> TaskFieldPlan.of("title,owner,user"));
+        assertEquals("Unknown task fields: owner, user", ex.getMessage());
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskflow.backend.idempotency;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.security.UserPrincipal;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class IdempotencyFilterTests {
+
+    private static final IdempotencyStore.Key KEY = new IdempotencyStore.Key(7L, "retry-1");
+
+    private final IdempotencyStore store = mock(IdempotencyStore.class);
+    private final IdempotencyFilter filter = new IdempotencyFilter(store, new ObjectMapper());
+
+    @BeforeEach
+    void authenticate() throws Exception {
+        UserPrincipal principal = new UserPrincipal(KEY.userId(), "idempotency@example.com", "x", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+        when(store.claim(eq(KEY), any())).thenReturn(new IdempotencyStore.Claim(IdempotencyStore.Outcome.OWNER, null));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testClientErrorIsStoredLikeASuccess() throws Exception {
+        MockHttpServletResponse response = run((request, out) -> ((HttpServletResponse) out).sendError(400));
+
+        assertEquals(400, response.getStatus());
+        verify(store).complete(eq(KEY), any(), eq(400), any(), any());
+        verify(store, never()).release(KEY);
+    }
+
+    @Test
+    void testServerErrorReleasesTheKey() throws Exception {
+        run((request, out) -> ((HttpServletResponse) out).setStatus(503));
+
+        verify(store).release(KEY);
+        verify(store, never()).complete(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void testExceptionReleasesTheKey() {
+        assertThrows(IOException.class, () -> run((request, out) -> {
+            throw new IOException("connection reset");
+        }));
+
+        verify(store).release(KEY);
+    }
+
+    // The task was created: a retry must not create it again while the claim is held
+    @Test
+    void testResponseThatCannotBeStoredKeepsTheClaim() throws Exception {
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(store).complete(any(), any(), anyInt(), any(), any());
+
+        MockHttpServletResponse response = run((request, out) -> {
+            ((HttpServletResponse) out).setStatus(201);
+            out.getWriter().write("{\"id\":1}");
+        });
+
+        assertEquals(201, response.getStatus());
+        assertEquals("{\"id\":1}", response.getContentAsString());
+        verify(store, never()).release(KEY);
+    }
+
+    private MockHttpServletResponse run(FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/tasks");
+        request.addHeader(IdempotencyFilter.HEADER, KEY.key());
+        request.setContent("{\"title\":\"once\"}".getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflow.backend.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdempotencyStoreTests {
+
+    private static final IdempotencyStore.Key KEY = new IdempotencyStore.Key(7L, "retry-1");
+    private static final byte[] FINGERPRINT = {1, 2, 3};
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final IdempotencyStore store = new IdempotencyStore(jdbcTemplate, new IdempotencyProperties(),
+            new SimpleMeterRegistry());
+
+    @Test
+    void testConcurrentDuplicatesWaitForTheOriginal() throws Exception {
+        when(jdbcTemplate.update(startsWith("INSERT"), any(Object[].class))).thenReturn(1);
+        assertEquals(IdempotencyStore.Outcome.OWNER, store.claim(KEY, FINGERPRINT).outcome());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<IdempotencyStore.Claim>> duplicates = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            duplicates.add(executor.submit(() -> store.claim(KEY, FINGERPRINT)));
+        }
+        Thread.sleep(100);
+        duplicates.forEach(duplicate -> assertFalse(duplicate.isDone()));
+
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        store.complete(KEY, FINGERPRINT, 200, "application/json", body);
+        for (Future<IdempotencyStore.Claim> duplicate : duplicates) {
+            IdempotencyStore.Claim claim = duplicate.get(5, TimeUnit.SECONDS);
+            assertEquals(IdempotencyStore.Outcome.REPLAY, claim.outcome());
+            assertArrayEquals(body, claim.response().body());
+        }
+        executor.shutdown();
+        // Only the original claimed the key in the table
+        verify(jdbcTemplate, times(1)).update(startsWith("INSERT"), any(Object[].class));
+    }
+
+    @Test
+    void testKeyReusedForADifferentRequestIsRejected() throws Exception {
+        when(jdbcTemplate.update(startsWith("INSERT"), any(Object[].class))).thenReturn(1);
+        store.claim(KEY, FINGERPRINT);
+        store.complete(KEY, FINGERPRINT, 200, "application/json", new byte[0]);
+
+        assertEquals(IdempotencyStore.Outcome.MISMATCH, store.claim(KEY, new byte[] {9}).outcome());
+    }
+
+    @Test
+    void testReleasedKeyIsClaimedAgain() throws Exception {
+        when(jdbcTemplate.update(startsWith("INSERT"), any(Object[].class))).thenReturn(1);
+        store.claim(KEY, FINGERPRINT);
+        store.release(KEY);
+
+        assertEquals(IdempotencyStore.Outcome.OWNER, store.claim(KEY, FINGERPRINT).outcome());
+    }
+}
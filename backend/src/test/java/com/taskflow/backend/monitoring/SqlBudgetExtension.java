@@ -0,0 +1,48 @@
+package com.taskflow.backend.monitoring;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+// Opens a SqlStatementStats scope around each test and fails the test when it
+// issues more statements than its @SqlBudget allows. MockMvc requests run on the
+// test thread, so SqlAccountingFilter joins this scope instead of opening its own.
+public class SqlBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatementStats.begin();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        SqlStatementStats.end();
+        if (stats == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        budgetFor(context).ifPresent(budget -> {
+            if (stats.getStatementCount() > budget.value()) {
+                throw new AssertionFailedError(String.format(
+                        "Expected at most %d SQL statements but %d were executed (%d ms). Repeated shapes: %s",
+                        budget.value(), stats.getStatementCount(), stats.getElapsedMillis(),
+                        stats.repeatedShapes(1)));
+            }
+        });
+    }
+
+    private Optional<SqlBudget> budgetFor(ExtensionContext context) {
+        SqlBudget onMethod = context.getTestMethod()
+                .map(method -> AnnotatedElementUtils.findMergedAnnotation(method, SqlBudget.class))
+                .orElse(null);
+        if (onMethod != null) {
+            return Optional.of(onMethod);
+        }
+        return context.getTestClass()
+                .map(type -> AnnotatedElementUtils.findMergedAnnotation(type, SqlBudget.class));
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.backend.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementStatsTests {
+
+    @AfterEach
+    void clearScope() {
+        SqlStatementStats.end();
+    }
+
+    @Test
+    void testRecordsOnlyInsideScope() {
+        SqlStatementStats.record("select 1", 1_000);
+        SqlStatementStats stats = SqlStatementStats.begin();
+        SqlStatementStats.record("select 1", 2_000_000);
+        SqlStatementStats.record("select 2", 3_000_000);
+
+        assertEquals(2, stats.getStatementCount());
+        assertEquals(5, stats.getElapsedMillis());
+    }
+
+    @Test
+    void testFoldsInListsIntoOneShape() {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        SqlStatementStats.record("select t.id from tasks t where t.id in (?, ?)", 10);
+        SqlStatementStats.record("select t.id from tasks t where t.id in (?,?,?)", 10);
+        SqlStatementStats.record("select t.id  from tasks t where t.id in (?, ?, ?, ?)", 10);
+        SqlStatementStats.record("select c.name from categories c where c.id=?", 10);
+
+        Map<String, Integer> repeated = stats.repeatedShapes(2);
+
+        assertEquals(1, repeated.size());
+        assertEquals(3, repeated.get("select t.id from tasks t where t.id in (?)"));
+        assertTrue(stats.repeatedShapes(3).isEmpty());
+    }
+}
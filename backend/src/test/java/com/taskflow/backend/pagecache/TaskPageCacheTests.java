@@ -0,0 +1,110 @@
+package com.taskflow.backend.pagecache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.dto.PageRequest;
+import com.taskflow.backend.dto.TaskFieldPlan;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.security.UserPrincipal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TaskPageCacheTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskPageCache cache = new TaskPageCache(
+            new ObjectMapper().setFilterProvider(TaskFieldPlan.DEFAULT_FILTERS), new TaskPageCacheProperties(),
+            mock(PlatformTransactionManager.class), meterRegistry);
+    private final PageRequest firstPage = new PageRequest(0, 10);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testFirstPageIsLoadedOncePerUser() {
+        authenticate(7L);
+        String body = new String(cache.firstPage(firstPage, TaskFieldPlan.ALL, this::load), StandardCharsets.UTF_8);
+        cache.firstPage(firstPage, TaskFieldPlan.ALL, this::load);
+
+        assertEquals(1, loads.get());
+        assertTrue(body.startsWith("{\"status\":\"success\",\"data\":{\"content\":[{\"id\":1,\"title\":\"Task 1\""));
+        assertEquals(0.5, meterRegistry.get("taskflow.task-pages.hit-ratio").gauge().value());
+
+        authenticate(8L);
+        cache.firstPage(firstPage, TaskFieldPlan.ALL, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testChangeReloadsOnlyThatUsersPages() {
+        authenticate(7L);
+        cache.firstPage(firstPage, TaskFieldPlan.ALL, this::load);
+        authenticate(8L);
+        cache.firstPage(firstPage, TaskFieldPlan.ALL, this::load);
+
+        cache.invalidate(7L);
+        cache.firstPage(firstPage, TaskFieldPlan.ALL, this::load);
+        assertEquals(2, loads.get());
+        authenticate(7L);
+        cache.firstPage(firstPage, TaskFieldPlan.ALL, this::load);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testPageLoadedDuringAChangeIsNotServed() {
+        authenticate(7L);
+        cache.firstPage(firstPage, TaskFieldPlan.ALL, () -> {
+            // Committed on another node while this page was being read
+            cache.invalidateRemote(7L);
+            return load();
+        });
+        cache.firstPage(firstPage, TaskFieldPlan.ALL, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testOnlyPlainFirstPagesAsJsonAreCacheable() {
+        assertTrue(cache.isCacheable(firstPage, null));
+        assertTrue(cache.isCacheable(firstPage, "application/json, */*;q=0.8"));
+        assertFalse(cache.isCacheable(firstPage, "application/cbor"));
+        assertFalse(cache.isCacheable(firstPage, "application/x-jackson-smile, application/json;q=0.5"));
+        assertFalse(cache.isCacheable(new PageRequest(1, 10), null));
+
+        PageRequest labelled = new PageRequest(0, 10);
+        labelled.setLabels(List.of("urgent"));
+        assertFalse(cache.isCacheable(labelled, null));
+    }
+
+    private Page<TaskResponseDTO> load() {
+        loads.incrementAndGet();
+        TaskResponseDTO task = new TaskResponseDTO();
+        task.setId(1L);
+        task.setTitle("Task 1");
+        return new PageImpl<>(List.of(task), org.springframework.data.domain.PageRequest.of(0, 10), 1);
+    }
+
+    private static void authenticate(Long userId) {
+        UserPrincipal principal = new UserPrincipal(userId, "user" + userId + "@example.com", "", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
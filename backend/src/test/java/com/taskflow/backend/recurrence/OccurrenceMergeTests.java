@@ -0,0 +1,61 @@
+package com.taskflow.backend.recurrence;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class OccurrenceMergeTests {
+
+    private static final LocalDate START = LocalDate.of(2026, 10, 19);
+
+    @Test
+    void mergesByDayThenTaskAndCountsTheWholeWindow() {
+        long day = START.toEpochDay();
+        List<OccurrenceSource> sources = List.of(
+                new DatedTaskSource(new long[] {5, 2}, new long[] {day + 1, day + 3}),
+                RecurrenceRule.parse("FREQ=DAILY").cursor(3, START, START.plusDays(3)));
+
+        OccurrenceMerge.Window window = OccurrenceMerge.page(sources, 0, 10);
+
+        assertEquals(6, window.total());
+        assertEquals(List.of(
+                new OccurrenceMerge.Slot(3, day, true),
+                new OccurrenceMerge.Slot(3, day + 1, true),
+                new OccurrenceMerge.Slot(5, day + 1, false),
+                new OccurrenceMerge.Slot(3, day + 2, true),
+                new OccurrenceMerge.Slot(2, day + 3, false),
+                new OccurrenceMerge.Slot(3, day + 3, true)), window.slots());
+    }
+
+    // A year of a thousand weekday series: pages are cut from the merged order and the
+    // total covers every occurrence
+    @Test
+    void pagesThroughAYearOfManySeries() {
+        LocalDate last = START.plusDays(364);
+        int pageSize = 50;
+        OccurrenceMerge.Window page = OccurrenceMerge.page(cursors(1000, last), 100_000, pageSize);
+
+        assertEquals(1000L * 261, page.total());
+        assertEquals(pageSize, page.slots().size());
+        List<OccurrenceMerge.Slot> slots = page.slots();
+        for (int i = 1; i < slots.size(); i++) {
+            OccurrenceMerge.Slot previous = slots.get(i - 1);
+            OccurrenceMerge.Slot slot = slots.get(i);
+            assertTrue(previous.epochDay() < slot.epochDay()
+                    || previous.epochDay() == slot.epochDay() && previous.taskId() < slot.taskId());
+        }
+    }
+
+    private static List<OccurrenceSource> cursors(int count, LocalDate last) {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR");
+        List<OccurrenceSource> sources = new ArrayList<>();
+        for (int task = 0; task < count; task++) {
+            sources.add(rule.cursor(task, START, last));
+        }
+        return sources;
+    }
+}
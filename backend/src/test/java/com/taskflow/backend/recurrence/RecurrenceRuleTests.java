@@ -0,0 +1,109 @@
+package com.taskflow.backend.recurrence;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.taskflow.backend.exception.ValidationException;
+
+class RecurrenceRuleTests {
+
+    // 2026-10-19 is a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+
+    @Test
+    void everyWeekdaySkipsWeekends() {
+        List<LocalDate> days = expand("FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR", MONDAY, MONDAY, MONDAY.plusDays(13));
+
+        assertEquals(10, days.size());
+        assertTrue(days.stream().noneMatch(day -> day.getDayOfWeek().getValue() > 5));
+    }
+
+    @Test
+    void firstAndLastWeekdayOfTheMonth() {
+        LocalDate start = LocalDate.of(2026, 10, 5);
+        assertEquals(List.of(start, LocalDate.of(2026, 11, 2), LocalDate.of(2026, 12, 7), LocalDate.of(2027, 1, 4)),
+                expand("FREQ=MONTHLY;BYDAY=1MO", start, start, LocalDate.of(2027, 1, 31)));
+
+        assertEquals(List.of(LocalDate.of(2026, 10, 30), LocalDate.of(2026, 11, 27), LocalDate.of(2026, 12, 25)),
+                expand("FREQ=MONTHLY;BYDAY=-1FR", MONDAY, MONDAY, LocalDate.of(2026, 12, 31)));
+    }
+
+    @Test
+    void monthDaysThatDoNotExistAreSkipped() {
+        LocalDate start = LocalDate.of(2027, 1, 31);
+        assertEquals(List.of(start, LocalDate.of(2027, 3, 31), LocalDate.of(2027, 5, 31)),
+                expand("FREQ=MONTHLY", start, start, LocalDate.of(2027, 6, 30)));
+    }
+
+    @Test
+    void countIncludesOccurrencesBeforeTheWindowAndCancelledOnes() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=5");
+        OccurrenceCursor cursor = rule.cursor(1, MONDAY, MONDAY.plusDays(30))
+                .excluding(new long[] {MONDAY.plusDays(3).toEpochDay()})
+                .seek(MONDAY.plusDays(2).toEpochDay());
+
+        assertEquals(List.of(MONDAY.plusDays(2), MONDAY.plusDays(4)), drain(cursor));
+    }
+
+    // Seeking without COUNT jumps straight to the window's period; it must give exactly
+    // what walking the series from its start gives
+    @Test
+    void seekMatchesFullIteration() {
+        String[] rules = {
+                "FREQ=DAILY;INTERVAL=3", "FREQ=DAILY;BYDAY=SA,SU", "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,FR",
+                "FREQ=MONTHLY;INTERVAL=5;BYMONTHDAY=1,-1", "FREQ=MONTHLY;BYDAY=2WE,SU", "FREQ=YEARLY;UNTIL=20400101"
+        };
+        LocalDate start = LocalDate.of(2024, 2, 29);
+        LocalDate last = LocalDate.of(2036, 12, 31);
+        for (String text : rules) {
+            List<LocalDate> all = expand(text, start, start, last);
+            for (LocalDate from = start; from.isBefore(last); from = from.plusDays(97)) {
+                LocalDate windowStart = from;
+                List<LocalDate> expected = all.stream().filter(day -> !day.isBefore(windowStart)).toList();
+                assertEquals(expected, expand(text, start, from, last), text + " from " + from);
+            }
+        }
+    }
+
+    @Test
+    void parsesToACanonicalForm() {
+        assertEquals("FREQ=MONTHLY;INTERVAL=2;BYDAY=1MO,-1FR;UNTIL=20271231",
+                RecurrenceRule.parse("rrule:freq=monthly;interval=2;byday=+1mo,-1fr;until=2027-12-31").toString());
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,WE", RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=WE,MO").toString());
+    }
+
+    @Test
+    void rejectsUnsupportedRules() {
+        for (String text : new String[] {"", "INTERVAL=2", "FREQ=HOURLY", "FREQ=WEEKLY;BYDAY=1MO",
+                "FREQ=DAILY;COUNT=2;UNTIL=20270101", "FREQ=WEEKLY;BYMONTHDAY=1", "FREQ=MONTHLY;BYDAY=XX"}) {
+            assertThrows(ValidationException.class, () -> RecurrenceRule.parse(text), text);
+        }
+    }
+
+    @Test
+    void isOccurrence() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR");
+        assertTrue(rule.isOccurrence(MONDAY, MONDAY.plusDays(4)));
+        assertFalse(rule.isOccurrence(MONDAY, MONDAY.plusDays(5)));
+        assertFalse(rule.isOccurrence(MONDAY, MONDAY.minusDays(3)));
+    }
+
+    private static List<LocalDate> expand(String rule, LocalDate start, LocalDate from, LocalDate last) {
+        return drain(RecurrenceRule.parse(rule).cursor(1, start, last).seek(from.toEpochDay()));
+    }
+
+    private static List<LocalDate> drain(OccurrenceCursor cursor) {
+        List<LocalDate> days = new ArrayList<>();
+        for (long day = cursor.next(); day != OccurrenceSource.END; day = cursor.next()) {
+            days.add(LocalDate.ofEpochDay(day));
+        }
+        return days;
+    }
+}
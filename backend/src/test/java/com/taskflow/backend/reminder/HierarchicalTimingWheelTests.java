@@ -0,0 +1,77 @@
+package com.taskflow.backend.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTests {
+
+    @Test
+    void firesOnTheFirstTickAtOrAfterTheDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 2, 2, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("a", 2500);
+
+        wheel.advanceTo(2999, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advanceTo(3000, fired::add);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelledAndRescheduledKeysFireOnlyForTheirLatestDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 2, 2, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("cancelled", 5);
+        wheel.schedule("moved", 5);
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        wheel.schedule("moved", 9);
+
+        wheel.advanceTo(8, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advanceTo(9, fired::add);
+        assertEquals(List.of("moved"), fired);
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 3, 2, 1000);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("late", 500);
+
+        wheel.advanceTo(1000, fired::add);
+        assertEquals(List.of("late"), fired);
+    }
+
+    // 2 levels of 4 slots cover 16 ticks, so most deadlines cascade through both levels
+    // and the overflow list; the firing order must still match a sorted reference
+    @Test
+    void cascadesMatchASortedReference() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 2, 2, 0);
+        TreeMap<Long, List<Integer>> expected = new TreeMap<>();
+        Random random = new Random(42);
+        for (int key = 0; key < 2000; key++) {
+            long deadline = 1 + random.nextInt(200);
+            wheel.schedule(key, deadline);
+            expected.computeIfAbsent(deadline, d -> new ArrayList<>()).add(key);
+        }
+
+        for (long now = 1; now <= 200; now++) {
+            List<Integer> fired = new ArrayList<>();
+            wheel.advanceTo(now, fired::add);
+            List<Integer> due = expected.getOrDefault(now, List.of());
+            assertEquals(due.size(), fired.size(), "fired at tick " + now);
+            assertTrue(fired.containsAll(due), "fired at tick " + now);
+        }
+        assertEquals(0, wheel.size());
+    }
+}
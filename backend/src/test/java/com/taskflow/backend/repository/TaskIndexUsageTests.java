@@ -0,0 +1,112 @@
+package com.taskflow.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Seeds a realistic amount of data (rolled back after each test), then checks with EXPLAIN
+// that the hot task queries are served by the indexes from the migrations.
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskIndexUsageTests {
+
+    private static final Set<String> INDEXED_TABLES = Set.of("tasks");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private long userId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("""
+                insert into users (name, email, password, role, is_active, created_at, updated_at)
+                select 'user ' || g, 'index-test-' || g || '@example.com', 'x', 'USER', true, now(), now()
+                from generate_series(1, 200) g
+                """);
+        userId = jdbcTemplate.queryForObject(
+                "select id from users where email = 'index-test-1@example.com'", Long.class);
+        jdbcTemplate.update("""
+                insert into tasks (title, status, priority, completed, due_date, created_at, updated_at, user_id, assignee_id)
+                select 'task ' || g,
+                       (array['TODO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+                       'MEDIUM',
+                       g % 10 <> 0,
+                       now() + (g % 90) * interval '1 day',
+                       now() - g * interval '1 minute',
+                       now(),
+                       u.id,
+                       u.id
+                from generate_series(1, 20000) g
+                join users u on u.email = 'index-test-' || (1 + g % 200) || '@example.com'
+                """);
+        jdbcTemplate.update("update tasks set labels = array['label-' || (id % 50)], dependencies = array[id - 1]");
+        jdbcTemplate.execute("analyze tasks");
+    }
+
+    @Test
+    void testUserTaskListUsesIndex() {
+        assertNoSequentialScan("""
+                select * from tasks where user_id = ? order by created_at desc, id desc limit 10
+                """, userId);
+    }
+
+    @Test
+    void testAssigneeBoardUsesIndex() {
+        assertNoSequentialScan("select * from tasks where assignee_id = ? and status = 'TODO'", userId);
+    }
+
+    @Test
+    void testOpenTasksByDueDateUseIndex() {
+        assertNoSequentialScan("""
+                select * from tasks where user_id = ? and completed = false and due_date < now() + interval '7 days'
+                order by due_date
+                """, userId);
+        assertNoSequentialScan("""
+                select id from tasks where completed = false and due_date < now() + interval '1 day'
+                """);
+    }
+
+    @Test
+    void testArrayContainmentUsesIndex() {
+        Long taskId = jdbcTemplate.queryForObject(
+                "select id from tasks where user_id = ? order by id limit 1", Long.class, userId);
+
+        assertNoSequentialScan("select id from tasks where user_id = ? and labels @> array['label-7']::varchar[]", userId);
+        assertNoSequentialScan("select id from tasks where dependencies @> array[?]::bigint[]", taskId);
+    }
+
+    private void assertNoSequentialScan(String sql, Object... args) {
+        String plan = jdbcTemplate.queryForObject("explain (format json) " + sql, String.class, args);
+        List<String> seqScans = new ArrayList<>();
+        try {
+            collectSequentialScans(objectMapper.readTree(plan).get(0).get("Plan"), seqScans);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Could not read plan: " + plan, ex);
+        }
+        assertTrue(seqScans.isEmpty(), () -> "Sequential scan on " + seqScans + " for: " + sql + "\n" + plan);
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> seqScans) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && INDEXED_TABLES.contains(relation)) {
+            seqScans.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, seqScans);
+        }
+    }
+}
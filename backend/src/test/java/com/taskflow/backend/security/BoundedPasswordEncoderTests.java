@@ -0,0 +1,93 @@
+package com.taskflow.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.taskflow.backend.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // One thread and one queue slot; "slow" blocks the thread until released
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if ("slow".contentEquals(rawPassword)) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hashed:" + rawPassword + ":" + Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.startsWith("hashed:" + rawPassword + ":");
+        }
+    }, 1, 1, meterRegistry);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void testHashesOffTheCallerThread() {
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("hashed:secret:password-hash-"));
+        assertTrue(encoder.matches("secret", hash));
+        assertEquals(2, meterRegistry.get("taskflow.password.wait").timer().count());
+    }
+
+    @Test
+    void testFullQueueFailsFast() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("slow"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("queued"));
+        while (meterRegistry.get("taskflow.password.queue").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.encode("rejected"));
+        assertEquals(1, meterRegistry.get("taskflow.password.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS).startsWith("hashed:slow:"));
+        assertTrue(queued.get(5, TimeUnit.SECONDS).startsWith("hashed:queued:"));
+    }
+
+    @Test
+    void testLowerCostFactorNeedsUpgrade() {
+        String oldHash = new BCryptPasswordEncoder(4).encode("secret");
+        BoundedPasswordEncoder stronger = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1,
+                new SimpleMeterRegistry());
+        try {
+            assertTrue(stronger.upgradeEncoding(oldHash));
+            assertTrue(stronger.matches("secret", oldHash));
+            assertFalse(stronger.upgradeEncoding(stronger.encode("secret")));
+        } finally {
+            stronger.shutdown();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskflow.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TimedPasswordEncoderTests {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TimedPasswordEncoder encoder = new TimedPasswordEncoder(delegate, meterRegistry);
+
+    @Test
+    void testRecordsEncodeAndMatchesSeparately() {
+        when(delegate.encode("secret")).thenReturn("hashed");
+        when(delegate.matches("secret", "hashed")).thenReturn(true);
+
+        assertEquals("hashed", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "hashed"));
+        assertTrue(encoder.matches("secret", "hashed"));
+
+        assertEquals(1, meterRegistry.get("taskflow.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("taskflow.password.hash").tag("operation", "matches").timer().count());
+    }
+}
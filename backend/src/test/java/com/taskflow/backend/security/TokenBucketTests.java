@@ -0,0 +1,44 @@
+package com.taskflow.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testBurstThenRejectsUntilRefill() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(3, 2, now);
+
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        // Two tokens per second: the next one arrives after half a second
+        assertEquals(SECOND / 2, bucket.tryAcquire(now));
+
+        assertEquals(0, bucket.tryAcquire(now + SECOND / 2));
+        assertTrue(bucket.tryAcquire(now + SECOND / 2) > 0);
+    }
+
+    @Test
+    void testBucketBecomesIdleOnceRefilled() {
+        long now = -5 * SECOND; // nanoTime may be negative
+        TokenBucket bucket = new TokenBucket(2, 1, now);
+
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+        assertFalse(bucket.isIdle(now + SECOND));
+        assertTrue(bucket.isIdle(now + 2 * SECOND));
+        // Idle time does not accumulate beyond the burst size
+        assertEquals(0, bucket.tryAcquire(now + 10 * SECOND));
+        assertEquals(0, bucket.tryAcquire(now + 10 * SECOND));
+        assertTrue(bucket.tryAcquire(now + 10 * SECOND) > 0);
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskflow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskflow.backend.dto.JwtResponse;
+import com.taskflow.backend.exception.UnauthorizedException;
+import com.taskflow.backend.model.RefreshToken;
+import com.taskflow.backend.repository.RefreshTokenRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtTokenProvider;
+import com.taskflow.backend.security.TokenRevocationList;
+
+import io.jsonwebtoken.Claims;
+
+class RefreshTokenServiceTests {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+    private final TokenRevocationList revocationList = new TokenRevocationList(refreshTokenRepository, 30000);
+    private final RefreshTokenService refreshTokenService =
+            new RefreshTokenService(refreshTokenRepository, userRepository, jwtTokenProvider, revocationList);
+
+    RefreshTokenServiceTests() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+                "/eBluI8knWG7wdZ9ai3UpiPlrQujQHn/UGuOnPJeJ4O5+MsZy9WtdxFq5W2hLIHBpgJ/EaisRMXjO/wnz8NMUg==");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationInMs", 60000);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshExpirationInMs", 120000);
+    }
+
+    @Test
+    void testReusingRotatedTokenRevokesFamily() {
+        JwtResponse issued = refreshTokenService.issueTokens(
+                new UsernamePasswordAuthenticationToken("test@example.com", null));
+        Claims claims = jwtTokenProvider.parseClaims(issued.getRefreshToken());
+        String familyId = claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class);
+
+        // The token was already exchanged once, so the conditional update matches nothing
+        RefreshToken stored = new RefreshToken();
+        stored.setJti(claims.getId());
+        stored.setFamilyId(familyId);
+        stored.setSubject("test@example.com");
+        when(refreshTokenRepository.markRotated(eq(claims.getId()), any(), any())).thenReturn(0);
+        when(refreshTokenRepository.findByJti(claims.getId())).thenReturn(Optional.of(stored));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(issued.getRefreshToken()));
+
+        verify(refreshTokenRepository).revokeFamily(eq(familyId), any());
+        assertTrue(revocationList.isRevoked(familyId));
+    }
+
+    @Test
+    void testAccessTokenIsNotAcceptedAsRefreshToken() {
+        JwtResponse issued = refreshTokenService.issueTokens(
+                new UsernamePasswordAuthenticationToken("test@example.com", null));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(issued.getToken()));
+    }
+}
@@ -0,0 +1,273 @@
+package com.taskflow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.backend.board.RankKeys;
+import com.taskflow.backend.dto.MoveTaskRequest;
+import com.taskflow.backend.dto.PageRequest;
+import com.taskflow.backend.dto.TaskFieldPlan;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.pagecache.TaskPageCache;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.security.UserPrincipal;
+
+// Runs against the local database. Moves and rebalances commit on their own threads, so
+// the data is committed and deleted again after each test. The rebalance tests use a
+// service of their own with a short app.board.max-rank-length, so that a few moves into
+// one gap mark the column for a re-spread.
+@SpringBootTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskBoardServiceTests {
+
+    private static final String EMAIL = "board-test@example.com";
+
+    @Autowired
+    private TaskBoardService taskBoardService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskPageCache taskPageCache;
+
+    private UserPrincipal principal;
+    private long userId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("""
+                insert into users (name, email, password, role, is_active, created_at, updated_at)
+                values ('board test', ?, 'x', 'USER', true, now(), now())
+                """, EMAIL);
+        userId = jdbcTemplate.queryForObject("select id from users where email = ?", Long.class, EMAIL);
+        principal = new UserPrincipal(userId, EMAIL, "x", List.of());
+        authenticate();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("delete from tasks where user_id = ?", userId);
+        jdbcTemplate.update("delete from users where id = ?", userId);
+    }
+
+    @Test
+    void testConcurrentMovesIntoTheSameGapAllLandInIt() throws Exception {
+        long anchor = task("doing", "V");
+        long next = task("doing", "W");
+        List<Long> moved = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            moved.add(task("todo", Integer.toString(i)));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> moves = moved.stream().map(id -> CompletableFuture.runAsync(() -> {
+            authenticate();
+            try {
+                start.await();
+                taskBoardService.moveTask(id, move("doing", anchor));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        })).toList();
+        start.countDown();
+        CompletableFuture.allOf(moves.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        List<Long> column = column("doing");
+        assertEquals(10, column.size());
+        assertEquals(anchor, column.get(0));
+        assertEquals(next, column.get(9));
+        assertTrue(column.containsAll(moved));
+        assertStrictlyIncreasing(ranks("doing"));
+        assertEquals(List.of(), column("todo"));
+    }
+
+    // A status change that takes no column lock (as PUT/PATCH do) lands while the rebalancer
+    // re-spreads the column the task is leaving: the task keeps the key it got in its new column
+    @Test
+    void testRespreadLeavesTasksThatMovedToAnotherColumn() throws Exception {
+        long first = task("doing", "V");
+        long second = task("doing", "W");
+        long leaving = task("doing", "X");
+        task("done", "V");
+        TaskBoardService board = board(1);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                board.moveTask(first, move("doing", second)));
+
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            try (Statement statement = other.createStatement()) {
+                statement.executeQuery("select id from tasks where id = " + leaving + " for update").close();
+            }
+
+            CompletableFuture<Void> rebalance = CompletableFuture.runAsync(board::rebalance);
+            awaitLockWait();
+            try (Statement statement = other.createStatement()) {
+                statement.executeUpdate("update tasks set status = 'done', rank = 'Z' where id = " + leaving);
+            }
+            other.commit();
+            rebalance.get(30, TimeUnit.SECONDS);
+        }
+
+        // Spread over the three tasks it read; the one that left keeps its new key
+        assertEquals(List.of(second, first), column("doing"));
+        assertEquals(RankKeys.spread(null, null, 3).subList(0, 2), ranks("doing"));
+        assertEquals("Z", jdbcTemplate.queryForObject("select rank from tasks where id = ?", String.class, leaving));
+    }
+
+    @Test
+    void testRebalanceShortensLongKeysAndRanksNewTasks() {
+        long top = task("todo", "V");
+        long bottom = task("todo", "W");
+        List<Long> moved = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            moved.add(task("backlog", Integer.toString(i)));
+        }
+        long newer = task("todo", null);
+        long newest = task("todo", null);
+        TaskBoardService board = board(2);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // Each one directly below the top task, so the keys grow into the same gap and the
+        // last one moved ends up first
+        for (long id : moved) {
+            transaction.executeWithoutResult(status -> board.moveTask(id, move("todo", top)));
+        }
+        Collections.reverse(moved);
+        assertTrue(ranks("todo").stream().anyMatch(rank -> rank.length() > 2));
+
+        board.rebalance();
+
+        List<Long> expected = new ArrayList<>(List.of(top));
+        expected.addAll(moved);
+        expected.addAll(List.of(bottom, newer, newest));
+        assertEquals(expected, column("todo"));
+        List<String> ranks = ranks("todo");
+        assertEquals(expected.size(), ranks.size());
+        assertTrue(ranks.stream().allMatch(rank -> rank.length() <= 2), ranks.toString());
+        assertStrictlyIncreasing(ranks);
+    }
+
+    // Nothing else tells the owner's cached first pages that the keys they show have changed
+    @Test
+    void testRebalanceDropsTheOwnersCachedPages() {
+        task("todo", null);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<TaskResponseDTO>> loader = () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of());
+        };
+        taskPageCache.firstPage(new PageRequest(0, 10), TaskFieldPlan.ALL, loader);
+
+        board(16).rebalance();
+        taskPageCache.firstPage(new PageRequest(0, 10), TaskFieldPlan.ALL, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    private TaskBoardService board(int maxRankLength) {
+        return new TaskBoardService(taskRepository, taskMapper, jdbcTemplate, transactionManager, eventPublisher,
+                maxRankLength);
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static MoveTaskRequest move(String status, Long afterId) {
+        MoveTaskRequest request = new MoveTaskRequest();
+        request.setStatus(status);
+        request.setAfterId(afterId);
+        return request;
+    }
+
+    private long task(String status, String rank) {
+        return jdbcTemplate.queryForObject("""
+                insert into tasks (title, priority, completed, status, rank, created_at, updated_at, user_id)
+                values ('board', 'LOW', false, ?, ?, now(), now(), ?) returning id
+                """, Long.class, status, rank, userId);
+    }
+
+    // Display order: ranked tasks by key, then unranked ones by id
+    private List<Long> column(String status) {
+        return jdbcTemplate.queryForList(
+                "select id from tasks where user_id = ? and status = ? order by rank nulls last, id",
+                Long.class, userId, status);
+    }
+
+    private List<String> ranks(String status) {
+        return jdbcTemplate.queryForList(
+                "select rank from tasks where user_id = ? and status = ? and rank is not null order by rank",
+                String.class, userId, status);
+    }
+
+    private static void assertStrictlyIncreasing(List<String> ranks) {
+        for (int i = 1; i < ranks.size(); i++) {
+            assertTrue(ranks.get(i - 1).compareTo(ranks.get(i)) < 0, ranks.toString());
+        }
+    }
+
+    // Until another session is blocked on a row lock
+    private void awaitLockWait() throws InterruptedException {
+        for (int attempt = 0; attempt < 200; attempt++) {
+            Long waiting = jdbcTemplate.queryForObject("""
+                    select count(*) from pg_stat_activity
+                    where datname = current_database() and wait_event_type = 'Lock'
+                    """, Long.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Nothing waited for the row lock");
+    }
+}
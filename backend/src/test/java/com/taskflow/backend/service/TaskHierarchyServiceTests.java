@@ -0,0 +1,169 @@
+package com.taskflow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.dto.TaskPatchRequest;
+import com.taskflow.backend.dto.TaskRollupDTO;
+import com.taskflow.backend.exception.ValidationException;
+import com.taskflow.backend.security.UserPrincipal;
+
+// Runs against the local database. Rollups are only evicted once a change commits, so the
+// data is committed and deleted again after each test.
+@SpringBootTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskHierarchyServiceTests {
+
+    private static final String EMAIL = "hierarchy-test@example.com";
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+    // root -> child -> grandchild, and other
+    private long root;
+    private long child;
+    private long grandchild;
+    private long other;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("""
+                insert into users (name, email, password, role, is_active, created_at, updated_at)
+                values ('hierarchy test', ?, 'x', 'USER', true, now(), now())
+                """, EMAIL);
+        userId = jdbcTemplate.queryForObject("select id from users where email = ?", Long.class, EMAIL);
+        UserPrincipal principal = new UserPrincipal(userId, EMAIL, "x", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+
+        root = task("root", null, 1);
+        child = task("child", root, 2);
+        grandchild = task("grandchild", child, 3);
+        other = task("other", null, 5);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("update tasks set parent_id = null where user_id = ?", userId);
+        jdbcTemplate.update("delete from tasks where user_id = ?", userId);
+        jdbcTemplate.update("delete from users where id = ?", userId);
+    }
+
+    @Test
+    void testMoveSubtreeRewritesTheClosureOfTheWholeSubtree() {
+        taskHierarchyService.moveSubtree(child, other);
+
+        assertEquals(Set.of(
+                link(root, root, 0), link(child, child, 0), link(grandchild, grandchild, 0), link(other, other, 0),
+                link(child, grandchild, 1), link(other, child, 1), link(other, grandchild, 2)), closure());
+        assertEquals(other, parentOf(child));
+
+        taskHierarchyService.moveSubtree(child, null);
+
+        assertEquals(Set.of(
+                link(root, root, 0), link(child, child, 0), link(grandchild, grandchild, 0), link(other, other, 0),
+                link(child, grandchild, 1)), closure());
+        assertNull(parentOf(child));
+    }
+
+    @Test
+    void testTaskCannotBeMovedUnderItselfOrItsSubtasks() {
+        Set<String> before = closure();
+
+        for (long parent : List.of(root, child, grandchild)) {
+            assertThrows(ValidationException.class, () -> taskHierarchyService.moveSubtree(root, parent));
+        }
+        assertEquals(before, closure());
+        assertNull(parentOf(root));
+    }
+
+    @Test
+    void testDeletingTaskDeletesItsSubtree() {
+        taskService.deleteTask(child);
+
+        assertEquals(List.of(root, other), jdbcTemplate.queryForList(
+                "select id from tasks where user_id = ? order by id", Long.class, userId));
+        assertEquals(Set.of(link(root, root, 0), link(other, other, 0)), closure());
+    }
+
+    @Test
+    void testRollupIsEvictedWhenASubtaskChanges() {
+        assertRollup(root, 3, 0, 6, 0);
+
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setCompleted(true);
+        taskService.patchTask(grandchild, patch);
+        assertRollup(root, 3, 1, 6, 3);
+
+        taskHierarchyService.moveSubtree(child, other);
+        assertRollup(root, 1, 0, 1, 0);
+        assertRollup(other, 3, 1, 10, 3);
+    }
+
+    @Test
+    void testRollupIsEvictedForChangesMadeOnOtherNodes() {
+        assertRollup(root, 3, 0, 6, 0);
+
+        // Written behind this node's back, so the cached rollup is still served
+        jdbcTemplate.update("update tasks set completed = true where id = ?", child);
+        assertRollup(root, 3, 0, 6, 0);
+
+        taskHierarchyService.evictRemote(userId);
+        assertRollup(root, 3, 1, 6, 2);
+    }
+
+    private void assertRollup(long taskId, long taskCount, long completed, long storyPoints, long completedPoints) {
+        TaskRollupDTO rollup = taskHierarchyService.getRollup(taskId);
+        assertEquals(List.of(taskCount, completed, storyPoints, completedPoints), List.of(rollup.taskCount(),
+                rollup.completedCount(), rollup.storyPoints(), rollup.completedStoryPoints()));
+        assertEquals(taskCount - 1, rollup.descendantCount());
+    }
+
+    private long task(String title, Long parentId, int storyPoints) {
+        Long id = jdbcTemplate.queryForObject("""
+                insert into tasks (title, priority, completed, story_points, created_at, updated_at, user_id, parent_id)
+                values (?, 'LOW', false, ?, now(), now(), ?, ?) returning id
+                """, Long.class, title, storyPoints, userId, parentId);
+        taskHierarchyService.attach(userId, id, parentId);
+        return id;
+    }
+
+    private Long parentOf(long taskId) {
+        return jdbcTemplate.queryForObject("select parent_id from tasks where id = ?", Long.class, taskId);
+    }
+
+    private Set<String> closure() {
+        return jdbcTemplate.queryForList("""
+                select c.ancestor_id || '>' || c.descendant_id || '@' || c.depth
+                from task_closure c join tasks t on t.id = c.descendant_id where t.user_id = ?
+                """, String.class, userId).stream().collect(Collectors.toSet());
+    }
+
+    private static String link(long ancestor, long descendant, int depth) {
+        return ancestor + ">" + descendant + "@" + depth;
+    }
+}
@@ -1,28 +1,77 @@
 package com.taskflow.backend.service;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.taskflow.backend.dto.CategorySummaryDTO;
+import com.taskflow.backend.dto.TaskBatchResponse;
+import com.taskflow.backend.dto.TaskExpansion;
+import com.taskflow.backend.dto.TaskPatchRequest;
 import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.dto.UserSummaryDTO;
+import com.taskflow.backend.event.TaskChangedEvent;
+import com.taskflow.backend.exception.ResourceNotFoundException;
 import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.model.Category;
 import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.User;
 import com.taskflow.backend.repository.CategoryRepository;
+import com.taskflow.backend.repository.TaskOccurrenceRepository;
 import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.repository.TaskViewRepository;
 import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.UserPrincipal;
+import com.taskflow.backend.singleflight.SingleFlights;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @SpringBootTest
 class TaskServiceTests {
 
     private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskOccurrenceRepository taskOccurrenceRepository = mock(TaskOccurrenceRepository.class);
+    private final TaskViewRepository taskViewRepository = mock(TaskViewRepository.class);
     private final UserRepository userRepository = mock(UserRepository.class);
     private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
     private final TaskMapper taskMapper = mock(TaskMapper.class);
-    private final TaskService taskService = new TaskService(taskRepository, userRepository, categoryRepository, taskMapper);
+    private final TaskHierarchyService taskHierarchyService = mock(TaskHierarchyService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final TaskService taskService = new TaskService(taskRepository, taskOccurrenceRepository, taskViewRepository, userRepository,
+            categoryRepository, taskMapper, taskHierarchyService, eventPublisher,
+            new SingleFlights(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 1000));
+
+    @BeforeEach
+    void authenticate() {
+        UserPrincipal principal = new UserPrincipal(7L, "test@example.com", "", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
 
     @Test
     void testGetTaskById() {
@@ -32,9 +81,107 @@ class TaskServiceTests {
         TaskResponseDTO dto = new TaskResponseDTO();
         dto.setId(1L);
         dto.setTitle("Test Task");
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findByIdAndUserId(1L, 7L)).thenReturn(Optional.of(task));
         when(taskMapper.toResponse(task)).thenReturn(dto);
         TaskResponseDTO result = taskService.getTaskById(1L);
         assertEquals("Test Task", result.getTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTaskOfAnotherUserIsNotFound() {
+        when(taskRepository.findByIdAndUserId(2L, 7L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(2L));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.deleteTask(2L));
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).delete(any());
+    }
+
+    @Test
+    void testPatchChangesOnlyGivenFieldsWithoutLookups() {
+        Category category = new Category();
+        category.setId(3L);
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("Old");
+        task.setDescription("Keep");
+        task.setStatus("TODO");
+        task.setRank("m");
+        task.setCategory(category);
+        when(taskRepository.findByIdAndUserId(1L, 7L)).thenReturn(Optional.of(task));
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setTitle("New");
+        patch.setStatus("DONE");
+        patch.setCategoryId(3L);
+
+        taskService.patchTask(1L, patch);
+
+        assertEquals("New", task.getTitle());
+        assertEquals("Keep", task.getDescription());
+        assertNull(task.getRank());
+        assertEquals(category, task.getCategory());
+        verify(categoryRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void testPatchWithoutChangesPublishesNothing() {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("Same");
+        when(taskRepository.findByIdAndUserId(1L, 7L)).thenReturn(Optional.of(task));
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setTitle("Same");
+
+        taskService.patchTask(1L, patch);
+
+        verify(taskRepository, never()).flush();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testBatchReadResolvesEachReferenceOnce() {
+        User assignee = new User();
+        assignee.setId(9L);
+        assignee.setName("Ann");
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("Work");
+        Task first = batchTask(1L, assignee, category, List.of(2L, 5L));
+        Task second = batchTask(2L, assignee, null, List.of(5L));
+        Task dependency = batchTask(5L, assignee, category, List.of());
+        when(taskRepository.findWithReferences(Set.of(2L, 1L, 4L), 7L)).thenReturn(List.of(first, second));
+        when(taskRepository.findWithReferences(Set.of(5L), 7L)).thenReturn(List.of(dependency));
+        when(taskMapper.toResponse(any(Task.class))).thenAnswer(invocation -> {
+            TaskResponseDTO dto = new TaskResponseDTO();
+            dto.setId(invocation.<Task>getArgument(0).getId());
+            return dto;
+        });
+
+        TaskBatchResponse batch = taskService.getTasks(List.of(2L, 1L, 4L, 2L),
+                EnumSet.allOf(TaskExpansion.class));
+
+        assertEquals(List.of(2L, 1L), batch.tasks().stream().map(TaskResponseDTO::getId).toList());
+        assertEquals(List.of(4L), batch.missing());
+        assertEquals(Set.of(5L), batch.dependencies().keySet());
+        assertEquals(Map.of(9L, new UserSummaryDTO(9L, "Ann")), batch.assignees());
+        assertEquals(Map.of(3L, new CategorySummaryDTO(3L, "Work")), batch.categories());
+        assertEquals(3L, batch.tasks().get(1).getCategoryId());
+        // One query for the requested tasks, one for their dependencies; references come joined
+        verify(taskRepository, times(1)).findWithReferences(Set.of(2L, 1L, 4L), 7L);
+        verify(taskRepository, times(1)).findWithReferences(Set.of(5L), 7L);
+        verify(taskRepository, times(2)).findWithReferences(any(), any());
+        verify(userRepository, never()).findById(any());
+        verify(categoryRepository, never()).findById(any());
+    }
+
+    private static Task batchTask(Long id, User assignee, Category category, List<Long> dependencies) {
+        Task task = new Task();
+        task.setId(id);
+        task.setAssignee(assignee);
+        task.setCategory(category);
+        task.setDependencies(dependencies);
+        return task;
+    }
+}
@@ -3,6 +3,7 @@ package com.taskflow.backend.service;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
@@ -14,28 +15,43 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.taskflow.backend.model.User;
 import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.singleflight.SingleFlights;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class UserServiceTests {
 
     private final UserRepository userRepository = mock(UserRepository.class);
     private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
-    private final UserService userService = new UserService(userRepository, passwordEncoder);
+    private final UserService userService = new UserService(userRepository, passwordEncoder,
+            new SingleFlights(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 1000));
+    private MockedStatic<SecurityContextHolder> securityContextHolderMock;
 
     @BeforeEach
     void setupSecurityContext() {
         SecurityContext context = mock(SecurityContext.class);
         Authentication auth = mock(Authentication.class);
 
+        when(auth.isAuthenticated()).thenReturn(true);
         when(auth.getPrincipal()).thenReturn("test@example.com");
         when(context.getAuthentication()).thenReturn(auth);
 
         // Mock the static SecurityContextHolder.getContext()
-        MockedStatic<SecurityContextHolder> securityContextHolderMock = mockStatic(SecurityContextHolder.class);
+        securityContextHolderMock = mockStatic(SecurityContextHolder.class);
         securityContextHolderMock.when(SecurityContextHolder::getContext).thenReturn(context);
     }
+
+    // The static mock is registered on the test thread; left open it would replace the
+    // security context of every test class that runs after this one
+    @AfterEach
+    void closeSecurityContextMock() {
+        securityContextHolderMock.close();
+    }
+
     @Test
     void testUpdateUserProfile() {
         User currentUser = new User();
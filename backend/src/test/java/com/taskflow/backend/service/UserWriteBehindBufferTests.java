@@ -0,0 +1,64 @@
+package com.taskflow.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class UserWriteBehindBufferTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UserWriteBehindBuffer buffer = new UserWriteBehindBuffer(jdbcTemplate);
+
+    @Test
+    void testRepeatedLoginsCoalesceIntoOneUpdate() {
+        LocalDateTime first = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime second = first.plusMinutes(5);
+        buffer.recordLogin("test@example.com", second);
+        buffer.recordLogin("test@example.com", first);
+        buffer.recordLogin("other@example.com", first);
+
+        buffer.flush();
+
+        ArgumentCaptor<Object> emails = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> timestamps = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(anyString(), emails.capture(), timestamps.capture());
+        String[] flushedEmails = (String[]) emails.getValue();
+        String[] flushedTimestamps = (String[]) timestamps.getValue();
+        assertEquals(2, flushedEmails.length);
+        for (int i = 0; i < flushedEmails.length; i++) {
+            LocalDateTime expected = flushedEmails[i].equals("test@example.com") ? second : first;
+            assertEquals(expected, LocalDateTime.parse(flushedTimestamps[i]));
+        }
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    void testFailedFlushKeepsUpdatesForRetry() {
+        LocalDateTime loggedInAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        buffer.recordLogin("test@example.com", loggedInAt);
+
+        buffer.flush();
+
+        assertEquals(1, buffer.pendingCount());
+    }
+
+    @Test
+    void testFlushWithNothingPendingSkipsDatabase() {
+        buffer.flush();
+
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
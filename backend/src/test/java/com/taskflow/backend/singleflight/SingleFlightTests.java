@@ -0,0 +1,131 @@
+package com.taskflow.backend.singleflight;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.taskflow.backend.exception.ResourceNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> flight = flight(5000);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Future<String>> results = callConcurrently(flight, 8, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "categories";
+        });
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("categories", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, count("leader"));
+        assertEquals(7, count("collapsed"));
+    }
+
+    @Test
+    void testLeaderFailureReachesEveryWaiter() throws Exception {
+        SingleFlight<String, String> flight = flight(5000);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(flight, 4, () -> {
+            await(release);
+            throw new ResourceNotFoundException("Task not found with id: 1");
+        });
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ResourceNotFoundException.class, ex.getCause());
+        }
+    }
+
+    @Test
+    void testWaiterLoadsItselfAfterMaxWait() throws Exception {
+        SingleFlight<String, String> flight = flight(50);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("key", () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "slow";
+        }));
+        leaderStarted.await();
+
+        assertEquals("fast", flight.execute("key", () -> "fast"));
+        assertEquals(1, count("timeout"));
+        release.countDown();
+        assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testNothingIsKeptAfterTheLoad() {
+        SingleFlight<String, Integer> flight = flight(5000);
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("key", loads::incrementAndGet);
+        flight.execute("key", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    private <V> SingleFlight<String, V> flight(long maxWaitMillis) {
+        return new SingleFlight<>("test", maxWaitMillis, TransactionOperations.withoutTransaction(), meterRegistry);
+    }
+
+    // Starts the calls and returns once all but the leader are waiting for it
+    private List<Future<String>> callConcurrently(SingleFlight<String, String> flight, int callers,
+                                                  Supplier<String> loader) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> flight.execute("key", loader)));
+        }
+        while (count("leader") < 1) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(100);
+        return results;
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("taskflow.singleflight.calls").tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
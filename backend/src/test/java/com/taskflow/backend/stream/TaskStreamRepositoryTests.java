@@ -0,0 +1,122 @@
+package com.taskflow.backend.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.dto.TaskResponseDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Runs against the local database. The R2DBC connections cannot see an uncommitted test
+// transaction, so the data is committed and deleted again after each test.
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskStreamRepositoryTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    private TaskStreamRepository repository;
+    private long userId;
+    private long otherUserId;
+
+    @BeforeEach
+    void seed() {
+        TaskStreamProperties properties = new TaskStreamProperties();
+        // Several round trips per listing, and a single connection that must come back
+        properties.setFetchSize(2);
+        properties.setPoolMaxSize(1);
+        repository = new TaskStreamRepository(dataSourceProperties, properties, new SimpleMeterRegistry());
+
+        jdbcTemplate.update("""
+                insert into users (name, email, password, role, is_active, created_at, updated_at)
+                select 'stream ' || g, 'stream-test-' || g || '@example.com', 'x', 'USER', true, now(), now()
+                from generate_series(1, 2) g
+                """);
+        userId = userId(1);
+        otherUserId = userId(2);
+        jdbcTemplate.update("""
+                insert into tasks (title, priority, completed, created_at, updated_at, user_id, assignee_id,
+                                   labels, dependencies)
+                select 'task ' || g, 'HIGH', false, now() - g * interval '1 minute', now(), ?, ?,
+                       case when g % 2 = 0 then array['even'] else array['odd'] end, array[g]
+                from generate_series(1, 10) g
+                """, userId, otherUserId);
+        jdbcTemplate.update("""
+                insert into tasks (title, priority, completed, created_at, updated_at, user_id)
+                values ('not mine', 'LOW', false, now(), now(), ?)
+                """, otherUserId);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        repository.close();
+        jdbcTemplate.update("delete from tasks where user_id in (?, ?)", userId, otherUserId);
+        jdbcTemplate.update("delete from users where email like 'stream-test-%@example.com'");
+    }
+
+    @Test
+    void testListsOwnTasksNewestFirst() {
+        List<TaskResponseDTO> tasks = repository.findByUserId(userId, List.of(), 5).collectList().block(TIMEOUT);
+
+        assertEquals(List.of("task 1", "task 2", "task 3", "task 4", "task 5"),
+                tasks.stream().map(TaskResponseDTO::getTitle).toList());
+        TaskResponseDTO first = tasks.get(0);
+        assertEquals("HIGH", first.getPriority());
+        assertEquals(List.of("odd"), first.getLabels());
+        assertEquals(List.of(1L), first.getDependencies());
+        assertEquals(otherUserId, first.getAssigneeId());
+        assertEquals("stream 2", first.getAssigneeName());
+    }
+
+    @Test
+    void testLabelFilter() {
+        List<TaskResponseDTO> tasks = repository.findByUserId(userId, List.of("even"), 100)
+                .collectList().block(TIMEOUT);
+
+        assertEquals(List.of("task 2", "task 4", "task 6", "task 8", "task 10"),
+                tasks.stream().map(TaskResponseDTO::getTitle).toList());
+    }
+
+    @Test
+    void testCancelledListingReleasesItsConnection() {
+        assertEquals(3, repository.findByUserId(userId, List.of(), 100).take(3).count().block(TIMEOUT));
+
+        // The pool has one connection; this would time out if the listing still held it
+        assertEquals(10, repository.findByUserId(userId, List.of(), 100).count().block(TIMEOUT));
+    }
+
+    @Test
+    void testDetailOnlyForOwner() {
+        Long id = jdbcTemplate.queryForObject(
+                "select id from tasks where user_id = ? and title = 'task 3'", Long.class, userId);
+
+        assertEquals("task 3", repository.findByIdAndUserId(id, userId).block(TIMEOUT).getTitle());
+        assertNull(repository.findByIdAndUserId(id, otherUserId).block(TIMEOUT));
+    }
+
+    private long userId(int n) {
+        return jdbcTemplate.queryForObject("select id from users where email = ?", Long.class,
+                "stream-test-" + n + "@example.com");
+    }
+}